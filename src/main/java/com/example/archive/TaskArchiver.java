@@ -0,0 +1,100 @@
+package com.example.archive;
+
+import com.example.domain.ArchivedTask;
+import com.example.domain.ArchivedTaskRepository;
+import com.example.domain.Task;
+import com.example.domain.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// Moves tasks completed more than tasker.archive.after-days ago from "tasks" to "tasks_archive",
+// one short transaction per batch so the hot table is never locked for long.
+// Subtasks go first (see TaskRepository.findArchivable); a parent follows in a later batch of the same run.
+@Component
+@ConditionalOnProperty(name = "tasker.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskArchiver.class);
+
+    private final TaskRepository tasks;
+    private final ArchivedTaskRepository archive;
+    private final TransactionTemplate tx;
+    private final Clock clock;
+    private final int afterDays;
+    private final int batchSize;
+
+    public TaskArchiver(TaskRepository tasks,
+                        ArchivedTaskRepository archive,
+                        PlatformTransactionManager txManager,
+                        Clock clock,
+                        @Value("${tasker.archive.after-days:30}") int afterDays,
+                        @Value("${tasker.archive.batch-size:500}") int batchSize) {
+        this.tasks = tasks;
+        this.archive = archive;
+        this.tx = new TransactionTemplate(txManager);
+        this.clock = clock;
+        this.afterDays = afterDays;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+            initialDelayString = "${tasker.archive.interval-ms:60000}",
+            fixedDelayString = "${tasker.archive.interval-ms:60000}"
+    )
+    public void run() {
+        try {
+            int archived = archiveCompletedBefore(LocalDateTime.now(clock).minusDays(afterDays));
+            if (archived > 0) {
+                log.info("Archived {} completed tasks", archived);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Task archival failed, will retry on next run", ex);
+        }
+    }
+
+    public int archiveCompletedBefore(LocalDateTime cutoff) {
+        int total = 0;
+        int n;
+        do {
+            n = archiveBatch(cutoff);
+            total += n;
+        } while (n > 0);
+        return total;
+    }
+
+    int archiveBatch(LocalDateTime cutoff) {
+        Integer n = tx.execute(status -> {
+            List<Task> batch = tasks.findArchivable(cutoff, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            List<UUID> ids = batch.stream().map(Task::getId).toList();
+            int deleted = tasks.deleteArchivable(ids, cutoff);
+            if (deleted == 0) {
+                return 0;
+            }
+            if (deleted < batch.size()) {
+                Set<UUID> kept = new HashSet<>(tasks.findExistingIds(ids));
+                batch = batch.stream().filter(t -> !kept.contains(t.getId())).toList();
+            }
+            LocalDateTime now = LocalDateTime.now(clock);
+            archive.saveAll(batch.stream().map(t -> ArchivedTask.of(t, now)).toList());
+            return batch.size();
+        });
+        return n == null ? 0 : n;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+// JPA and R2DBC both contribute a transaction manager; @Transactional must keep resolving to the JPA one.
+// The reactive stack uses the R2DBC manager explicitly through TransactionalOperator.
+@Configuration
+public class TransactionConfig {
+
+    @Bean
+    @Primary
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+}
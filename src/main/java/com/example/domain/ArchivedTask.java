@@ -0,0 +1,169 @@
+package com.example.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Cold copy of a completed Task, moved out of "tasks" by TaskArchiver. Keeps the original id.
+@Entity
+@Table(name = "tasks_archive", indexes = @Index(name = "idx_tasks_archive_path", columnList = "path"))
+public class ArchivedTask implements Persistable<UUID> {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String description;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = true)
+    private LocalDateTime deadline;
+
+    @Column(name = "completed_at", nullable = true)
+    private LocalDateTime completedAt;
+
+    @Column(name = "parent_id", nullable = true)
+    private UUID parentId;
+
+    @Column(nullable = false, length = Task.MAX_PATH_LENGTH)
+    private String path;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    // The id is copied from the hot row, so Spring Data cannot infer "new" from a null id;
+    // without this every archived row would cost a merge select before the insert.
+    @Transient
+    private boolean isNew = true;
+
+    public ArchivedTask() {
+    }
+
+    public static ArchivedTask of(Task t, LocalDateTime archivedAt) {
+        ArchivedTask a = new ArchivedTask();
+        a.setId(t.getId());
+        a.setTitle(t.getTitle());
+        a.setDescription(t.getDescription());
+        a.setCompleted(t.isCompleted());
+        a.setCreatedAt(t.getCreatedAt());
+        a.setDeadline(t.getDeadline());
+        a.setCompletedAt(t.getCompletedAt());
+        a.setParentId(t.getParentId());
+        a.setPath(t.getPath());
+        a.setArchivedAt(archivedAt);
+        return a;
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getDeadline() {
+        return deadline;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public UUID getParentId() {
+        return parentId;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getSubtreePath() {
+        return path + id + "/";
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public void setCompleted(boolean completed) {
+        this.completed = completed;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public void setDeadline(LocalDateTime deadline) {
+        this.deadline = deadline;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public void setParentId(UUID parentId) {
+        this.parentId = parentId;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+}
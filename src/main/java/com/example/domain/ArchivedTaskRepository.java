@@ -0,0 +1,22 @@
+package com.example.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, UUID> {
+
+    @Query("select a from ArchivedTask a where a.path like concat(:prefix, '%') order by a.path, a.createdAt")
+    List<ArchivedTask> findDescendants(@Param("prefix") String prefix);
+
+    @Query("select a.id from ArchivedTask a where a.path like concat(:prefix, '%')")
+    List<UUID> findDescendantIds(@Param("prefix") String prefix);
+
+    @Modifying
+    @Query("delete from ArchivedTask a where a.path like concat(:prefix, '%')")
+    int deleteDescendants(@Param("prefix") String prefix);
+}
@@ -0,0 +1,7 @@
+package com.example.domain;
+
+public enum OutboxEventType {
+    TASK_CREATED,
+    TASK_UPDATED,
+    TASK_DELETED
+}
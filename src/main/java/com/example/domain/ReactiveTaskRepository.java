@@ -0,0 +1,173 @@
+package com.example.domain;
+
+import io.r2dbc.spi.Row;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// R2DBC access to the same "tasks" / "tasks_archive" / "task_outbox" tables the JPA entities map.
+@Repository
+@Profile("reactive")
+public class ReactiveTaskRepository {
+
+    private static final String COLUMNS =
+            "id, title, description, completed, created_at, deadline, completed_at, parent_id, path";
+
+    private final DatabaseClient db;
+
+    public ReactiveTaskRepository(DatabaseClient db) {
+        this.db = db;
+    }
+
+    public Mono<Task> findById(UUID id) {
+        return db.sql("select " + COLUMNS + " from tasks where id = :id")
+                .bind("id", id)
+                .map((row, meta) -> toTask(row))
+                .one();
+    }
+
+    public Mono<Task> findByIdForUpdate(UUID id) {
+        return db.sql("select " + COLUMNS + " from tasks where id = :id for update")
+                .bind("id", id)
+                .map((row, meta) -> toTask(row))
+                .one();
+    }
+
+    public Flux<Task> findAll() {
+        return db.sql("select " + COLUMNS + " from tasks")
+                .map((row, meta) -> toTask(row))
+                .all();
+    }
+
+    public Flux<Task> findDescendants(String prefix) {
+        return db.sql("select " + COLUMNS + " from tasks where path like :prefix order by path, created_at")
+                .bind("prefix", prefix + "%")
+                .map((row, meta) -> toTask(row))
+                .all();
+    }
+
+    public Flux<UUID> findDescendantIdsForUpdate(String prefix) {
+        return db.sql("select id from tasks where path like :prefix for update")
+                .bind("prefix", prefix + "%")
+                .map((row, meta) -> row.get("id", UUID.class))
+                .all();
+    }
+
+    public Mono<Task> insert(Task t) {
+        DatabaseClient.GenericExecuteSpec spec = db.sql("insert into tasks (" + COLUMNS + ") "
+                        + "values (:id, :title, :description, :completed, :createdAt, :deadline, :completedAt, :parentId, :path)")
+                .bind("id", t.getId())
+                .bind("title", t.getTitle())
+                .bind("description", t.getDescription())
+                .bind("completed", t.isCompleted())
+                .bind("createdAt", t.getCreatedAt())
+                .bind("path", t.getPath());
+        spec = bindNullable(spec, "deadline", t.getDeadline(), LocalDateTime.class);
+        spec = bindNullable(spec, "completedAt", t.getCompletedAt(), LocalDateTime.class);
+        spec = bindNullable(spec, "parentId", t.getParentId(), UUID.class);
+        return spec.fetch().rowsUpdated().thenReturn(t);
+    }
+
+    public Mono<Task> update(Task t) {
+        DatabaseClient.GenericExecuteSpec spec = db.sql("update tasks set title = :title, description = :description, "
+                        + "completed = :completed, deadline = :deadline, completed_at = :completedAt where id = :id")
+                .bind("id", t.getId())
+                .bind("title", t.getTitle())
+                .bind("description", t.getDescription())
+                .bind("completed", t.isCompleted());
+        spec = bindNullable(spec, "deadline", t.getDeadline(), LocalDateTime.class);
+        spec = bindNullable(spec, "completedAt", t.getCompletedAt(), LocalDateTime.class);
+        return spec.fetch().rowsUpdated().thenReturn(t);
+    }
+
+    public Mono<Long> deleteDescendants(String prefix) {
+        return db.sql("delete from tasks where path like :prefix")
+                .bind("prefix", prefix + "%")
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> deleteById(UUID id) {
+        return db.sql("delete from tasks where id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Task> findArchivedById(UUID id) {
+        return db.sql("select " + COLUMNS + " from tasks_archive where id = :id")
+                .bind("id", id)
+                .map((row, meta) -> toTask(row))
+                .one();
+    }
+
+    public Flux<Task> findAllArchived() {
+        return db.sql("select " + COLUMNS + " from tasks_archive")
+                .map((row, meta) -> toTask(row))
+                .all();
+    }
+
+    public Flux<Task> findArchivedDescendants(String prefix) {
+        return db.sql("select " + COLUMNS + " from tasks_archive where path like :prefix order by path, created_at")
+                .bind("prefix", prefix + "%")
+                .map((row, meta) -> toTask(row))
+                .all();
+    }
+
+    public Flux<UUID> findArchivedDescendantIds(String prefix) {
+        return db.sql("select id from tasks_archive where path like :prefix")
+                .bind("prefix", prefix + "%")
+                .map((row, meta) -> row.get("id", UUID.class))
+                .all();
+    }
+
+    public Mono<Long> deleteArchivedDescendants(String prefix) {
+        return db.sql("delete from tasks_archive where path like :prefix")
+                .bind("prefix", prefix + "%")
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> deleteArchivedById(UUID id) {
+        return db.sql("delete from tasks_archive where id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Void> insertOutboxEvent(UUID taskId, OutboxEventType type, String payload, LocalDateTime occurredAt) {
+        return db.sql("insert into task_outbox (task_id, type, payload, occurred_at) "
+                        + "values (:taskId, :type, :payload, :occurredAt)")
+                .bind("taskId", taskId)
+                .bind("type", type.name())
+                .bind("payload", payload)
+                .bind("occurredAt", occurredAt)
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec,
+                                                                  String name, Object value, Class<?> type) {
+        return value == null ? spec.bindNull(name, type) : spec.bind(name, value);
+    }
+
+    private static Task toTask(Row row) {
+        Task t = new Task();
+        t.setId(row.get("id", UUID.class));
+        t.setTitle(row.get("title", String.class));
+        t.setDescription(row.get("description", String.class));
+        t.setCompleted(Boolean.TRUE.equals(row.get("completed", Boolean.class)));
+        t.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        t.setDeadline(row.get("deadline", LocalDateTime.class));
+        t.setCompletedAt(row.get("completed_at", LocalDateTime.class));
+        t.setParentId(row.get("parent_id", UUID.class));
+        t.setPath(row.get("path", String.class));
+        return t;
+    }
+}
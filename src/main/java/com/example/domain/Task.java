@@ -3,6 +3,7 @@ package com.example.domain;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import org.hibernate.annotations.UuidGenerator;
 
@@ -10,9 +11,16 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_parent_id", columnList = "parent_id"),
+        @Index(name = "idx_tasks_path", columnList = "path"),
+        @Index(name = "idx_tasks_completed_at", columnList = "completed_at")
+})
 public class Task {
 
+    public static final String ROOT_PATH = "/";
+    public static final int MAX_PATH_LENGTH = 2048;
+
     @Id
     @UuidGenerator
     private UUID id;
@@ -32,6 +40,16 @@ public class Task {
     @Column(nullable = true)
     private LocalDateTime deadline;
 
+    @Column(name = "completed_at", nullable = true)
+    private LocalDateTime completedAt;
+
+    @Column(name = "parent_id", nullable = true)
+    private UUID parentId;
+
+    // Materialized path of ancestor ids, e.g. "/" for roots and "/{rootId}/{parentId}/" for nested tasks.
+    @Column(nullable = false, length = MAX_PATH_LENGTH)
+    private String path = ROOT_PATH;
+
     public Task() {
     }
 
@@ -59,6 +77,22 @@ public class Task {
         return deadline;
     }
 
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public UUID getParentId() {
+        return parentId;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getSubtreePath() {
+        return path + id + "/";
+    }
+
     public void setId(UUID id) {
         this.id = id;
     }
@@ -82,4 +116,16 @@ public class Task {
     public void setDeadline(LocalDateTime deadline) {
         this.deadline = deadline;
     }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public void setParentId(UUID parentId) {
+        this.parentId = parentId;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
 }
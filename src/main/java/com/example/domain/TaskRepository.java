@@ -1,8 +1,57 @@
 package com.example.domain;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface TaskRepository extends JpaRepository<Task, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.id = :id")
+    Optional<Task> findByIdForUpdate(@Param("id") UUID id);
+
+    @Query("select t from Task t where t.path like concat(:prefix, '%') order by t.path, t.createdAt")
+    List<Task> findDescendants(@Param("prefix") String prefix);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.path like concat(:prefix, '%')")
+    List<Task> findDescendantsForUpdate(@Param("prefix") String prefix);
+
+    // Leaves only: a task is archived after all of its subtasks, so every archived task's subtree is archived too.
+    // Each TaskArchiver pass therefore moves one more level of a finished tree. The rows stay locked until the
+    // batch is moved, so they cannot be updated or get a new subtask meanwhile.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select t from Task t
+            where t.completed = true and t.completedAt < :cutoff
+              and not exists (select c.id from Task c where c.parentId = t.id)
+            order by t.completedAt
+            """)
+    List<Task> findArchivable(@Param("cutoff") LocalDateTime cutoff, Pageable page);
+
+    @Modifying
+    @Query("delete from Task t where t.path like concat(:prefix, '%')")
+    int deleteDescendants(@Param("prefix") String prefix);
+
+    // Re-checks the findArchivable conditions, so a row that changed after it was read stays in the hot table.
+    @Modifying
+    @Query("""
+            delete from Task t
+            where t.id in :ids and t.completed = true and t.completedAt < :cutoff
+              and not exists (select c.id from Task c where c.parentId = t.id)
+            """)
+    int deleteArchivable(@Param("ids") Collection<UUID> ids, @Param("cutoff") LocalDateTime cutoff);
+
+    @Query("select t.id from Task t where t.id in :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
 }
@@ -3,10 +3,12 @@ package com.example.dto;
 import jakarta.validation.constraints.NotBlank;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 public record CreateTaskRequest(
         @NotBlank String title,
         String description,
-        LocalDateTime deadline
+        LocalDateTime deadline,
+        UUID parentId
 ) {
 }
@@ -9,6 +9,7 @@ public record TaskResponse(
         String description,
         boolean completed,
         LocalDateTime createdAt,
-        LocalDateTime deadline
+        LocalDateTime deadline,
+        UUID parentId
 ) {
 }
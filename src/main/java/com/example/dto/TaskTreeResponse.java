@@ -0,0 +1,11 @@
+package com.example.dto;
+
+import java.util.List;
+
+public record TaskTreeResponse(
+        TaskResponse task,
+        int totalSubtasks,
+        int completedSubtasks,
+        List<TaskTreeResponse> subtasks
+) {
+}
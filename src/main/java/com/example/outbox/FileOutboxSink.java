@@ -0,0 +1,49 @@
+package com.example.outbox;
+
+import com.example.domain.OutboxEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "tasker.outbox.sink", havingValue = "file")
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public FileOutboxSink(@Value("${tasker.outbox.file:outbox.jsonl}") Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    // The relay deletes the batch from the outbox as soon as this returns, so the lines are forced to disk first.
+    @Override
+    public synchronized void publish(List<OutboxEvent> batch) {
+        StringBuilder lines = new StringBuilder();
+        for (OutboxEvent e : batch) {
+            lines.append(OutboxSink.toJsonLine(objectMapper, e)).append('\n');
+        }
+        ByteBuffer buf = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+
+        try (FileChannel ch = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buf.hasRemaining()) {
+                ch.write(buf);
+            }
+            ch.force(true);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("failed to append outbox batch to " + file, ex);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.outbox;
+
+import com.example.domain.OutboxEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "tasker.outbox.sink", havingValue = "log", matchIfMissing = true)
+public class LogOutboxSink implements OutboxSink {
+
+    private static final Logger log = LoggerFactory.getLogger("tasker.outbox");
+
+    private final ObjectMapper objectMapper;
+
+    public LogOutboxSink(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> batch) {
+        for (OutboxEvent e : batch) {
+            log.info(OutboxSink.toJsonLine(objectMapper, e));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.outbox;
+
+import com.example.domain.OutboxEvent;
+import com.example.domain.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// Drains the outbox in id order, one run at a time (fixed delay), so events of one task reach the sink in commit order.
+// Rows are deleted only after the sink accepted the batch: a crash in between redelivers it (at-least-once).
+@Component
+@ConditionalOnProperty(name = "tasker.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository repo;
+    private final OutboxSink sink;
+    private final TransactionTemplate tx;
+    private final int batchSize;
+
+    public OutboxRelay(OutboxEventRepository repo,
+                       OutboxSink sink,
+                       PlatformTransactionManager txManager,
+                       @Value("${tasker.outbox.relay.batch-size:100}") int batchSize) {
+        this.repo = repo;
+        this.sink = sink;
+        this.tx = new TransactionTemplate(txManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${tasker.outbox.relay.interval-ms:500}")
+    public void drain() {
+        long started = System.nanoTime();
+        long relayed = 0;
+        try {
+            int n;
+            do {
+                n = relayBatch();
+                relayed += n;
+            } while (n == batchSize);
+        } catch (RuntimeException ex) {
+            log.warn("Outbox relay failed, will retry on next run", ex);
+        }
+
+        if (relayed > 0 && log.isDebugEnabled()) {
+            long micros = Math.max(1, (System.nanoTime() - started) / 1_000);
+            log.debug("Relayed {} outbox events in {} us ({} events/s)", relayed, micros, relayed * 1_000_000 / micros);
+        }
+    }
+
+    int relayBatch() {
+        Integer n = tx.execute(status -> {
+            List<OutboxEvent> batch = repo.findBatch(PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            sink.publish(batch);
+            repo.deleteAllInBatch(batch);
+            return batch.size();
+        });
+        return n == null ? 0 : n;
+    }
+}
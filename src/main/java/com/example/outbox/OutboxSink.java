@@ -0,0 +1,31 @@
+package com.example.outbox;
+
+import com.example.domain.OutboxEvent;
+import com.example.domain.OutboxEventType;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboxSink {
+
+    // Publishes the batch in order. Throwing leaves the whole batch in the outbox to be retried.
+    void publish(List<OutboxEvent> batch);
+
+    static String toJsonLine(ObjectMapper objectMapper, OutboxEvent e) {
+        Envelope envelope = new Envelope(e.getId(), e.getTaskId(), e.getType(), e.getOccurredAt(), e.getPayload());
+        try {
+            return objectMapper.writeValueAsString(envelope);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("failed to serialize outbox event " + e.getId(), ex);
+        }
+    }
+
+    // The payload was serialized by OutboxWriter already and is embedded as is.
+    record Envelope(Long eventId, UUID taskId, OutboxEventType type, LocalDateTime occurredAt,
+                    @JsonRawValue String payload) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.outbox;
+
+import com.example.domain.OutboxEvent;
+import com.example.domain.OutboxEventRepository;
+import com.example.domain.OutboxEventType;
+import com.example.dto.TaskResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+public class OutboxWriter {
+
+    private final OutboxEventRepository repo;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    public OutboxWriter(OutboxEventRepository repo, ObjectMapper objectMapper, Clock clock) {
+        this.repo = repo;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    // Must join the caller's transaction so the event commits or rolls back together with the task change.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void taskCreated(TaskResponse task) {
+        record(task.id(), OutboxEventType.TASK_CREATED, task);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void taskUpdated(TaskResponse task) {
+        record(task.id(), OutboxEventType.TASK_UPDATED, task);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void taskDeleted(UUID id) {
+        record(id, OutboxEventType.TASK_DELETED, Map.of("id", id));
+    }
+
+    private void record(UUID taskId, OutboxEventType type, Object payload) {
+        OutboxEvent e = new OutboxEvent();
+        e.setTaskId(taskId);
+        e.setType(type);
+        e.setPayload(toJson(payload));
+        e.setOccurredAt(LocalDateTime.now(clock));
+        repo.save(e);
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("failed to serialize outbox payload", ex);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.outbox;
+
+import com.example.domain.OutboxEventType;
+import com.example.domain.ReactiveTaskRepository;
+import com.example.dto.TaskResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+// Reactive counterpart of OutboxWriter; callers compose it into the same R2DBC transaction as the task change.
+@Component
+@Profile("reactive")
+public class ReactiveOutboxWriter {
+
+    private final ReactiveTaskRepository repo;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    public ReactiveOutboxWriter(ReactiveTaskRepository repo, ObjectMapper objectMapper, Clock clock) {
+        this.repo = repo;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    public Mono<Void> taskCreated(TaskResponse task) {
+        return record(task.id(), OutboxEventType.TASK_CREATED, task);
+    }
+
+    public Mono<Void> taskUpdated(TaskResponse task) {
+        return record(task.id(), OutboxEventType.TASK_UPDATED, task);
+    }
+
+    public Mono<Void> taskDeleted(UUID id) {
+        return record(id, OutboxEventType.TASK_DELETED, Map.of("id", id));
+    }
+
+    private Mono<Void> record(UUID taskId, OutboxEventType type, Object payload) {
+        return Mono.fromCallable(() -> objectMapper.writeValueAsString(payload))
+                .flatMap(json -> repo.insertOutboxEvent(taskId, type, json, LocalDateTime.now(clock)));
+    }
+}
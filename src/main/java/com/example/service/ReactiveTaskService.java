@@ -0,0 +1,19 @@
+package com.example.service;
+
+import com.example.dto.CreateTaskRequest;
+import com.example.dto.TaskResponse;
+import com.example.dto.TaskTreeResponse;
+import com.example.dto.UpdateTaskRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveTaskService {
+    Mono<TaskResponse> create(CreateTaskRequest req);
+    Mono<TaskResponse> get(UUID id);
+    Flux<TaskResponse> list(boolean includeArchived);
+    Mono<TaskTreeResponse> subtree(UUID id);
+    Mono<TaskResponse> update(UUID id, UpdateTaskRequest req);
+    Mono<Void> delete(UUID id);
+}
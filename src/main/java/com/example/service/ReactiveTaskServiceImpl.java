@@ -0,0 +1,135 @@
+package com.example.service;
+
+import com.example.domain.ReactiveTaskRepository;
+import com.example.domain.Task;
+import com.example.dto.CreateTaskRequest;
+import com.example.dto.TaskResponse;
+import com.example.dto.TaskTreeResponse;
+import com.example.dto.UpdateTaskRequest;
+import com.example.exceptions.BadRequestException;
+import com.example.exceptions.NotFoundException;
+import com.example.outbox.ReactiveOutboxWriter;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static com.example.service.TaskMapping.*;
+
+@Service
+@Profile("reactive")
+public class ReactiveTaskServiceImpl implements ReactiveTaskService {
+
+    private final ReactiveTaskRepository repo;
+    private final ReactiveOutboxWriter outbox;
+    private final TransactionalOperator tx;
+    private final Clock clock;
+
+    public ReactiveTaskServiceImpl(ReactiveTaskRepository repo,
+                                   ReactiveOutboxWriter outbox,
+                                   TransactionalOperator tx,
+                                   Clock clock) {
+        this.repo = repo;
+        this.outbox = outbox;
+        this.tx = tx;
+        this.clock = clock;
+    }
+
+    @Override
+    public Mono<TaskResponse> create(CreateTaskRequest req) {
+        return Mono.fromCallable(() -> newTask(req, LocalDateTime.now(clock)))
+                .flatMap(t -> req.parentId() == null
+                        ? Mono.just(t)
+                        : repo.findByIdForUpdate(req.parentId())
+                                .switchIfEmpty(Mono.error(() -> new BadRequestException("parent task not found")))
+                                .map(parent -> {
+                                    attachToParent(t, parent);
+                                    return t;
+                                }))
+                .flatMap(t -> {
+                    t.setId(UUID.randomUUID());
+                    return repo.insert(t);
+                })
+                .map(TaskMapping::toResponse)
+                .flatMap(created -> outbox.taskCreated(created).thenReturn(created))
+                .as(tx::transactional);
+    }
+
+    @Override
+    public Mono<TaskResponse> get(UUID id) {
+        return repo.findById(id)
+                .switchIfEmpty(repo.findArchivedById(id))
+                .switchIfEmpty(notFound())
+                .map(TaskMapping::toResponse);
+    }
+
+    @Override
+    public Flux<TaskResponse> list(boolean includeArchived) {
+        Flux<Task> tasks = includeArchived ? repo.findAll().concatWith(repo.findAllArchived()) : repo.findAll();
+        return tasks.map(TaskMapping::toResponse);
+    }
+
+    @Override
+    public Mono<TaskTreeResponse> subtree(UUID id) {
+        return repo.findById(id)
+                .switchIfEmpty(repo.findArchivedById(id))
+                .switchIfEmpty(notFound())
+                .flatMap(root -> repo.findDescendants(root.getSubtreePath())
+                        .concatWith(repo.findArchivedDescendants(root.getSubtreePath()))
+                        .collectList()
+                        .map(descendants -> toTree(root, descendants)));
+    }
+
+    @Override
+    public Mono<TaskResponse> update(UUID id, UpdateTaskRequest req) {
+        return repo.findByIdForUpdate(id)
+                .switchIfEmpty(repo.findArchivedById(id)
+                        .flatMap(a -> Mono.<Task>error(new BadRequestException("task is archived"))))
+                .switchIfEmpty(notFound())
+                .flatMap(t -> {
+                    applyUpdate(t, req, LocalDateTime.now(clock));
+                    return repo.update(t);
+                })
+                .map(TaskMapping::toResponse)
+                .flatMap(updated -> outbox.taskUpdated(updated).thenReturn(updated))
+                .as(tx::transactional);
+    }
+
+    @Override
+    public Mono<Void> delete(UUID id) {
+        return repo.findByIdForUpdate(id)
+                // Locks the subtree as well; see TaskServiceImpl.delete.
+                .flatMap(t -> repo.findDescendantIdsForUpdate(t.getSubtreePath())
+                        .concatWith(repo.findArchivedDescendantIds(t.getSubtreePath()))
+                        .collectList()
+                        .flatMap(descendantIds -> repo.deleteDescendants(t.getSubtreePath())
+                                .then(repo.deleteArchivedDescendants(t.getSubtreePath()))
+                                .then(repo.deleteById(id))
+                                .thenReturn(descendantIds)))
+                .switchIfEmpty(Mono.defer(() -> deleteArchived(id)))
+                .flatMapMany(descendantIds -> Flux.fromIterable(descendantIds).concatWithValues(id))
+                .concatMap(outbox::taskDeleted)
+                .then()
+                .as(tx::transactional);
+    }
+
+    private Mono<List<UUID>> deleteArchived(UUID id) {
+        return repo.findArchivedById(id)
+                .switchIfEmpty(notFound())
+                .flatMap(a -> repo.findArchivedDescendantIds(a.getSubtreePath())
+                        .collectList()
+                        .flatMap(descendantIds -> repo.deleteArchivedDescendants(a.getSubtreePath())
+                                .then(repo.deleteArchivedById(id))
+                                .thenReturn(descendantIds)));
+    }
+
+    private static <T> Mono<T> notFound() {
+        return Mono.error(() -> new NotFoundException("task not found"));
+    }
+}
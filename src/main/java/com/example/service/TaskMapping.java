@@ -0,0 +1,140 @@
+package com.example.service;
+
+import com.example.domain.ArchivedTask;
+import com.example.domain.Task;
+import com.example.dto.CreateTaskRequest;
+import com.example.dto.TaskResponse;
+import com.example.dto.TaskTreeResponse;
+import com.example.dto.UpdateTaskRequest;
+import com.example.exceptions.BadRequestException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Validation and mapping rules shared by the blocking and reactive task services.
+final class TaskMapping {
+
+    private TaskMapping() {
+    }
+
+    static Task newTask(CreateTaskRequest req, LocalDateTime now) {
+        Task t = new Task();
+        t.setTitle(requireTitle(req.title()));
+        t.setDescription(trim(req.description()));
+        t.setCompleted(false);
+        t.setCreatedAt(now);
+        t.setDeadline(req.deadline());
+        return t;
+    }
+
+    // Every level adds 37 characters to the path, so the column length caps the nesting depth (55 ancestors).
+    static void attachToParent(Task t, Task parent) {
+        String path = parent.getSubtreePath();
+        if (path.length() > Task.MAX_PATH_LENGTH) {
+            throw new BadRequestException("subtask nesting is too deep");
+        }
+        t.setParentId(parent.getId());
+        t.setPath(path);
+    }
+
+    static void applyUpdate(Task t, UpdateTaskRequest req, LocalDateTime now) {
+        if (req.title() != null) {
+            t.setTitle(requireTitle(req.title()));
+        }
+
+        if (req.description() != null) {
+            t.setDescription(trim(req.description()));
+        }
+
+        if (req.completed() != null) {
+            if (req.completed() && !t.isCompleted()) {
+                t.setCompletedAt(now);
+            } else if (!req.completed()) {
+                t.setCompletedAt(null);
+            }
+            t.setCompleted(req.completed());
+        }
+
+        if (req.deadline() != null) {
+            t.setDeadline(req.deadline());
+        }
+    }
+
+    static TaskResponse toResponse(Task t) {
+        return new TaskResponse(
+                t.getId(),
+                t.getTitle(),
+                t.getDescription(),
+                t.isCompleted(),
+                t.getCreatedAt(),
+                t.getDeadline(),
+                t.getParentId()
+        );
+    }
+
+    static Task toTask(ArchivedTask a) {
+        Task t = new Task();
+        t.setId(a.getId());
+        t.setTitle(a.getTitle());
+        t.setDescription(a.getDescription());
+        t.setCompleted(a.isCompleted());
+        t.setCreatedAt(a.getCreatedAt());
+        t.setDeadline(a.getDeadline());
+        t.setCompletedAt(a.getCompletedAt());
+        t.setParentId(a.getParentId());
+        t.setPath(a.getPath());
+        return t;
+    }
+
+    static TaskResponse toResponse(ArchivedTask t) {
+        return new TaskResponse(
+                t.getId(),
+                t.getTitle(),
+                t.getDescription(),
+                t.isCompleted(),
+                t.getCreatedAt(),
+                t.getDeadline(),
+                t.getParentId()
+        );
+    }
+
+    // Descendants may come from both tables (hot first, then archived), so siblings are re-sorted by creation time.
+    static TaskTreeResponse toTree(Task root, List<Task> descendants) {
+        Map<UUID, List<Task>> childrenByParent = new HashMap<>();
+        for (Task d : descendants) {
+            childrenByParent.computeIfAbsent(d.getParentId(), k -> new ArrayList<>()).add(d);
+        }
+        childrenByParent.values().forEach(children -> children.sort(Comparator.comparing(Task::getCreatedAt)));
+        return toTree(root, childrenByParent);
+    }
+
+    private static TaskTreeResponse toTree(Task t, Map<UUID, List<Task>> childrenByParent) {
+        List<TaskTreeResponse> subtasks = new ArrayList<>();
+        int total = 0;
+        int completed = 0;
+        for (Task child : childrenByParent.getOrDefault(t.getId(), List.of())) {
+            TaskTreeResponse node = toTree(child, childrenByParent);
+            subtasks.add(node);
+            total += 1 + node.totalSubtasks();
+            completed += (child.isCompleted() ? 1 : 0) + node.completedSubtasks();
+        }
+        return new TaskTreeResponse(toResponse(t), total, completed, subtasks);
+    }
+
+    private static String requireTitle(String s) {
+        String title = trim(s);
+        if (title.isEmpty()) {
+            throw new BadRequestException("title must not be blank");
+        }
+        return title;
+    }
+
+    private static String trim(String s) {
+        return s == null ? "" : s.trim();
+    }
+}
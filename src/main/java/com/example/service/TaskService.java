@@ -2,6 +2,7 @@ package com.example.service;
 
 import com.example.dto.CreateTaskRequest;
 import com.example.dto.TaskResponse;
+import com.example.dto.TaskTreeResponse;
 import com.example.dto.UpdateTaskRequest;
 
 import java.util.List;
@@ -10,7 +11,8 @@ import java.util.UUID;
 public interface TaskService {
     TaskResponse create(CreateTaskRequest req);
     TaskResponse get(UUID id);
-    List<TaskResponse> list();
+    List<TaskResponse> list(boolean includeArchived);
+    TaskTreeResponse subtree(UUID id);
     TaskResponse update(UUID id, UpdateTaskRequest req);
     void delete(UUID id);
 }
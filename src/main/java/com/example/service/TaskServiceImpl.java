@@ -1,116 +1,142 @@
 package com.example.service;
 
+import com.example.domain.ArchivedTask;
+import com.example.domain.ArchivedTaskRepository;
 import com.example.domain.Task;
 import com.example.domain.TaskRepository;
 import com.example.dto.CreateTaskRequest;
 import com.example.dto.TaskResponse;
+import com.example.dto.TaskTreeResponse;
 import com.example.dto.UpdateTaskRequest;
 import com.example.exceptions.BadRequestException;
 import com.example.exceptions.NotFoundException;
+import com.example.outbox.OutboxWriter;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import static com.example.service.TaskMapping.*;
+
 @Service
 public class TaskServiceImpl implements TaskService {
 
     private final TaskRepository repo;
+    private final ArchivedTaskRepository archive;
+    private final OutboxWriter outbox;
     private final Clock clock;
 
-    public TaskServiceImpl(TaskRepository repo, Clock clock) {
+    public TaskServiceImpl(TaskRepository repo, ArchivedTaskRepository archive, OutboxWriter outbox, Clock clock) {
         this.repo = repo;
+        this.archive = archive;
+        this.outbox = outbox;
         this.clock = clock;
     }
 
     @Override
     @Transactional
     public TaskResponse create(CreateTaskRequest req) {
-        String title = trim(req.title());
-        if (title.isEmpty()) {
-            throw new BadRequestException("title must not be blank");
-        }
-
-        String description = trim(req.description());
-        LocalDateTime now = LocalDateTime.now(clock);
+        Task t = newTask(req, LocalDateTime.now(clock));
 
-        Task t = new Task();
-        t.setTitle(title);
-        t.setDescription(description);
-        t.setCompleted(false);
-        t.setCreatedAt(now);
-        t.setDeadline(req.deadline());
+        if (req.parentId() != null) {
+            // Locked so the archiver cannot move the parent while its new subtask is being inserted.
+            Task parent = repo.findByIdForUpdate(req.parentId())
+                    .orElseThrow(() -> new BadRequestException("parent task not found"));
+            attachToParent(t, parent);
+        }
 
-        Task saved = repo.save(t);
-        return toResponse(saved);
+        TaskResponse created = toResponse(repo.save(t));
+        outbox.taskCreated(created);
+        return created;
     }
 
     @Override
     @Transactional(readOnly = true)
     public TaskResponse get(UUID id) {
-        Task t = repo.findById(id).orElseThrow(() -> new NotFoundException("task not found"));
-        return toResponse(t);
+        return repo.findById(id)
+                .map(TaskMapping::toResponse)
+                .or(() -> archive.findById(id).map(TaskMapping::toResponse))
+                .orElseThrow(() -> new NotFoundException("task not found"));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskResponse> list() {
-        return repo.findAll().stream().map(this::toResponse).toList();
+    public List<TaskResponse> list(boolean includeArchived) {
+        List<TaskResponse> hot = repo.findAll().stream().map(TaskMapping::toResponse).toList();
+        if (!includeArchived) {
+            return hot;
+        }
+        List<TaskResponse> all = new ArrayList<>(hot);
+        archive.findAll().forEach(a -> all.add(toResponse(a)));
+        return all;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskTreeResponse subtree(UUID id) {
+        Task root = repo.findById(id)
+                .or(() -> archive.findById(id).map(TaskMapping::toTask))
+                .orElseThrow(() -> new NotFoundException("task not found"));
+        // Subtasks are archived before their parent, so part of a live tree may already be in the archive.
+        List<Task> descendants = new ArrayList<>(repo.findDescendants(root.getSubtreePath()));
+        archive.findDescendants(root.getSubtreePath()).forEach(a -> descendants.add(toTask(a)));
+        return toTree(root, descendants);
     }
 
     @Override
     @Transactional
     public TaskResponse update(UUID id, UpdateTaskRequest req) {
-        Task t = repo.findById(id).orElseThrow(() -> new NotFoundException("task not found"));
-
-        if (req.title() != null) {
-            String title = trim(req.title());
-            if (title.isEmpty()) {
-                throw new BadRequestException("title must not be blank");
-            }
-            t.setTitle(title);
-        }
-
-        if (req.description() != null) {
-            t.setDescription(trim(req.description()));
-        }
-
-        if (req.completed() != null) {
-            t.setCompleted(req.completed());
-        }
-
-        if (req.deadline() != null) {
-            t.setDeadline(req.deadline());
-        }
-
-        Task saved = repo.save(t);
-        return toResponse(saved);
+        // Lock the row up front: concurrent writers of this task then commit, and append their outbox events,
+        // one after the other.
+        Task t = repo.findByIdForUpdate(id).orElseThrow(() -> archive.existsById(id)
+                ? new BadRequestException("task is archived")
+                : new NotFoundException("task not found"));
+        applyUpdate(t, req, LocalDateTime.now(clock));
+
+        TaskResponse updated = toResponse(repo.save(t));
+        outbox.taskUpdated(updated);
+        return updated;
     }
 
     @Override
     @Transactional
     public void delete(UUID id) {
-        if (!repo.existsById(id)) {
-            throw new NotFoundException("task not found");
+        Task t = repo.findByIdForUpdate(id).orElse(null);
+        if (t == null) {
+            deleteArchived(id);
+            return;
         }
-        repo.deleteById(id);
-    }
 
-    private TaskResponse toResponse(Task t) {
-        return new TaskResponse(
-                t.getId(),
-                t.getTitle(),
-                t.getDescription(),
-                t.isCompleted(),
-                t.getCreatedAt(),
-                t.getDeadline()
-        );
+        // The subtree is locked too, so neither an update nor the archiver can touch a descendant between
+        // reading the ids for the outbox events and the bulk delete.
+        String subtreePath = t.getSubtreePath();
+        List<UUID> descendantIds = new ArrayList<>();
+        repo.findDescendantsForUpdate(subtreePath).forEach(d -> descendantIds.add(d.getId()));
+        descendantIds.addAll(archive.findDescendantIds(subtreePath));
+
+        repo.deleteDescendants(subtreePath);
+        archive.deleteDescendants(subtreePath);
+        repo.delete(t);
+        repo.flush();
+
+        descendantIds.forEach(outbox::taskDeleted);
+        outbox.taskDeleted(id);
     }
 
-    private static String trim(String s) {
-        return s == null ? "" : s.trim();
+    private void deleteArchived(UUID id) {
+        ArchivedTask a = archive.findById(id).orElseThrow(() -> new NotFoundException("task not found"));
+        String subtreePath = a.getSubtreePath();
+        List<UUID> descendantIds = archive.findDescendantIds(subtreePath);
+
+        archive.deleteDescendants(subtreePath);
+        archive.delete(a);
+        archive.flush();
+
+        descendantIds.forEach(outbox::taskDeleted);
+        outbox.taskDeleted(id);
     }
 }
@@ -0,0 +1,63 @@
+package com.example.web;
+
+import com.example.exceptions.BadRequestException;
+import com.example.exceptions.NotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.reactive.resource.NoResourceFoundException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.Instant;
+
+// Mirrors GlobalExceptionHandler for the WebFlux stack, where binding and decoding failures surface as ServerWebInputException.
+@RestControllerAdvice
+@Profile("reactive")
+public class ReactiveExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveExceptionHandler.class);
+
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<ErrorResponse> notFound(NotFoundException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(new ErrorResponse(Instant.now(), 404, ex.getMessage()));
+    }
+
+    @ExceptionHandler(NoResourceFoundException.class)
+    public ResponseEntity<ErrorResponse> noResource(NoResourceFoundException ex) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(new ErrorResponse(Instant.now(), 404, "not found"));
+    }
+
+    @ExceptionHandler({
+            BadRequestException.class,
+            ServerWebInputException.class
+    })
+    public ResponseEntity<ErrorResponse> badRequest(Exception ex) {
+        String msg;
+        if (ex instanceof WebExchangeBindException) {
+            msg = "validation failed";
+        } else if (ex instanceof ServerWebInputException && ex.getCause() instanceof TypeMismatchException) {
+            msg = "invalid parameter";
+        } else if (ex instanceof ServerWebInputException) {
+            msg = "malformed json";
+        } else {
+            msg = ex.getMessage();
+        }
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(Instant.now(), 400, msg));
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> internal(Exception ex) {
+        log.error("Unhandled exception", ex);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new ErrorResponse(Instant.now(), 500, "internal error"));
+    }
+}
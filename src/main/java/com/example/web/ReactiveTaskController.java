@@ -0,0 +1,61 @@
+package com.example.web;
+
+import com.example.dto.CreateTaskRequest;
+import com.example.dto.TaskResponse;
+import com.example.dto.TaskTreeResponse;
+import com.example.dto.UpdateTaskRequest;
+import com.example.service.ReactiveTaskService;
+import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/tasks")
+@Profile("reactive")
+public class ReactiveTaskController {
+
+    private final ReactiveTaskService service;
+
+    public ReactiveTaskController(ReactiveTaskService service) {
+        this.service = service;
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<TaskResponse>> create(@Valid @RequestBody CreateTaskRequest req) {
+        return service.create(req)
+                .map(created -> ResponseEntity
+                        .created(URI.create("/api/tasks/" + created.id()))
+                        .body(created));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<TaskResponse> get(@PathVariable UUID id) {
+        return service.get(id);
+    }
+
+    @GetMapping
+    public Flux<TaskResponse> list(@RequestParam(defaultValue = "false") boolean includeArchived) {
+        return service.list(includeArchived);
+    }
+
+    @GetMapping("/{id}/subtree")
+    public Mono<TaskTreeResponse> subtree(@PathVariable UUID id) {
+        return service.subtree(id);
+    }
+
+    @PutMapping("/{id}")
+    public Mono<TaskResponse> update(@PathVariable UUID id, @RequestBody UpdateTaskRequest req) {
+        return service.update(id, req);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable UUID id) {
+        return service.delete(id).thenReturn(ResponseEntity.noContent().<Void>build());
+    }
+}
@@ -2,9 +2,11 @@ package com.example.web;
 
 import com.example.dto.CreateTaskRequest;
 import com.example.dto.TaskResponse;
+import com.example.dto.TaskTreeResponse;
 import com.example.dto.UpdateTaskRequest;
 import com.example.service.TaskService;
 import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -14,6 +16,7 @@ import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/tasks")
+@Profile("!reactive")
 public class TaskController {
 
     private final TaskService service;
@@ -36,8 +39,13 @@ public class TaskController {
     }
 
     @GetMapping
-    public List<TaskResponse> list() {
-        return service.list();
+    public List<TaskResponse> list(@RequestParam(defaultValue = "false") boolean includeArchived) {
+        return service.list(includeArchived);
+    }
+
+    @GetMapping("/{id}/subtree")
+    public TaskTreeResponse subtree(@PathVariable UUID id) {
+        return service.subtree(id);
     }
 
     @PutMapping("/{id}")
@@ -0,0 +1,129 @@
+package com.example.web;
+
+import com.example.dto.TaskResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+// Hand-written replacement for the reflective record serializer on the hot list/get path.
+// Output must stay byte-identical to the default Jackson + JavaTimeModule rendering of TaskResponse.
+@JsonComponent
+public class TaskResponseSerializer extends StdSerializer<TaskResponse> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString COMPLETED = new SerializedString("completed");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString DEADLINE = new SerializedString("deadline");
+    private static final SerializedString PARENT_ID = new SerializedString("parentId");
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    // Large enough for a UUID (36) and an ISO local date-time with nanos (29).
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[36]);
+
+    public TaskResponseSerializer() {
+        super(TaskResponse.class);
+    }
+
+    @Override
+    public void serialize(TaskResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        char[] buf = BUFFER.get();
+
+        gen.writeStartObject(value);
+        gen.writeFieldName(ID);
+        writeUuid(gen, value.id(), buf);
+        gen.writeFieldName(TITLE);
+        gen.writeString(value.title());
+        gen.writeFieldName(DESCRIPTION);
+        gen.writeString(value.description());
+        gen.writeFieldName(COMPLETED);
+        gen.writeBoolean(value.completed());
+        gen.writeFieldName(CREATED_AT);
+        writeDateTime(gen, value.createdAt(), buf);
+        gen.writeFieldName(DEADLINE);
+        writeDateTime(gen, value.deadline(), buf);
+        gen.writeFieldName(PARENT_ID);
+        writeUuid(gen, value.parentId(), buf);
+        gen.writeEndObject();
+    }
+
+    private static void writeUuid(JsonGenerator gen, UUID id, char[] buf) throws IOException {
+        if (id == null) {
+            gen.writeNull();
+            return;
+        }
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        hex(buf, 0, msb >>> 32, 8);
+        buf[8] = '-';
+        hex(buf, 9, msb >>> 16, 4);
+        buf[13] = '-';
+        hex(buf, 14, msb, 4);
+        buf[18] = '-';
+        hex(buf, 19, lsb >>> 48, 4);
+        buf[23] = '-';
+        hex(buf, 24, lsb, 12);
+        gen.writeString(buf, 0, 36);
+    }
+
+    private static void hex(char[] buf, int off, long bits, int digits) {
+        for (int i = off + digits - 1; i >= off; i--) {
+            buf[i] = HEX[(int) (bits & 0xF)];
+            bits >>>= 4;
+        }
+    }
+
+    // Same text as DateTimeFormatter.ISO_LOCAL_DATE_TIME: seconds always present, fraction without trailing zeros.
+    private static void writeDateTime(JsonGenerator gen, LocalDateTime dt, char[] buf) throws IOException {
+        if (dt == null) {
+            gen.writeNull();
+            return;
+        }
+        int year = dt.getYear();
+        if (year < 0 || year > 9999) {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dt));
+            return;
+        }
+        digits(buf, 0, year, 4);
+        buf[4] = '-';
+        digits(buf, 5, dt.getMonthValue(), 2);
+        buf[7] = '-';
+        digits(buf, 8, dt.getDayOfMonth(), 2);
+        buf[10] = 'T';
+        digits(buf, 11, dt.getHour(), 2);
+        buf[13] = ':';
+        digits(buf, 14, dt.getMinute(), 2);
+        buf[16] = ':';
+        digits(buf, 17, dt.getSecond(), 2);
+        int len = 19;
+
+        int nano = dt.getNano();
+        if (nano != 0) {
+            int width = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                width--;
+            }
+            buf[19] = '.';
+            digits(buf, 20, nano, width);
+            len = 20 + width;
+        }
+        gen.writeString(buf, 0, len);
+    }
+
+    private static void digits(char[] buf, int off, int value, int width) {
+        for (int i = off + width - 1; i >= off; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
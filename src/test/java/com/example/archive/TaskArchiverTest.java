@@ -0,0 +1,107 @@
+package com.example.archive;
+
+import com.example.domain.ArchivedTask;
+import com.example.domain.ArchivedTaskRepository;
+import com.example.domain.Task;
+import com.example.domain.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TaskArchiverTest {
+
+    private TaskRepository tasks;
+    private ArchivedTaskRepository archive;
+    private Clock clock;
+    private TaskArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        tasks = mock(TaskRepository.class);
+        archive = mock(ArchivedTaskRepository.class);
+        clock = Clock.fixed(Instant.parse("2025-12-20T00:00:00Z"), ZoneOffset.UTC);
+        archiver = new TaskArchiver(tasks, archive, mock(PlatformTransactionManager.class), clock, 30, 2);
+    }
+
+    @Test
+    void run_usesClockMinusConfiguredDaysAsCutoff() {
+        archiver.run();
+
+        verify(tasks).findArchivable(eq(LocalDateTime.parse("2025-11-20T00:00:00")), any(Pageable.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void archiveCompletedBefore_movesBatchesUntilExhausted() {
+        LocalDateTime cutoff = LocalDateTime.parse("2025-11-20T00:00:00");
+        List<Task> first = List.of(task(), task());
+        List<Task> second = List.of(task());
+        when(tasks.findArchivable(eq(cutoff), any(Pageable.class))).thenReturn(first, second, List.of());
+        when(tasks.deleteArchivable(anyCollection(), eq(cutoff))).thenReturn(2, 1);
+
+        int archived = archiver.archiveCompletedBefore(cutoff);
+
+        assertEquals(3, archived);
+        verify(tasks).deleteArchivable(ids(first), cutoff);
+        verify(tasks).deleteArchivable(ids(second), cutoff);
+        verify(tasks, never()).findExistingIds(anyCollection());
+
+        ArgumentCaptor<Iterable<ArchivedTask>> cap = ArgumentCaptor.forClass(Iterable.class);
+        verify(archive, times(2)).saveAll(cap.capture());
+        ArchivedTask copy = cap.getAllValues().get(0).iterator().next();
+        assertEquals(first.get(0).getId(), copy.getId());
+        assertEquals(first.get(0).getCompletedAt(), copy.getCompletedAt());
+        assertEquals(LocalDateTime.now(clock), copy.getArchivedAt());
+        assertTrue(copy.isNew());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void archiveBatch_movesOnlyRowsTheConditionalDeleteRemoved() {
+        LocalDateTime cutoff = LocalDateTime.parse("2025-11-20T00:00:00");
+        Task moved = task();
+        Task reopened = task();
+        when(tasks.findArchivable(eq(cutoff), any(Pageable.class))).thenReturn(List.of(moved, reopened));
+        when(tasks.deleteArchivable(anyCollection(), eq(cutoff))).thenReturn(1);
+        when(tasks.findExistingIds(anyCollection())).thenReturn(List.of(reopened.getId()));
+
+        assertEquals(1, archiver.archiveBatch(cutoff));
+
+        ArgumentCaptor<Iterable<ArchivedTask>> cap = ArgumentCaptor.forClass(Iterable.class);
+        verify(archive).saveAll(cap.capture());
+        List<UUID> archivedIds = new ArrayList<>();
+        cap.getValue().forEach(a -> archivedIds.add(a.getId()));
+        assertEquals(List.of(moved.getId()), archivedIds);
+    }
+
+    private static List<UUID> ids(List<Task> batch) {
+        return batch.stream().map(Task::getId).toList();
+    }
+
+    private static Task task() {
+        Task t = new Task();
+        t.setId(UUID.randomUUID());
+        t.setTitle("Done");
+        t.setDescription("");
+        t.setCompleted(true);
+        t.setCreatedAt(LocalDateTime.parse("2025-10-01T10:00:00"));
+        t.setCompletedAt(LocalDateTime.parse("2025-10-02T10:00:00"));
+        return t;
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.bench;
+
+import com.example.TaskerApplication;
+import com.example.domain.ArchivedTaskRepository;
+import com.example.domain.OutboxEventRepository;
+import com.example.domain.TaskRepository;
+import com.example.dto.CreateTaskRequest;
+import com.example.dto.TaskResponse;
+import com.example.dto.UpdateTaskRequest;
+import com.example.outbox.OutboxRelay;
+import com.example.outbox.OutboxWriter;
+import com.example.service.TaskServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+// Cost of the transactional outbox: create/update latency with and without the event insert, then how fast
+// OutboxRelay drains a backlog into a sink that does nothing.
+// Run with: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.example.bench.OutboxOverheadBenchmark
+//   (or plain "java -cp" on the test classpath)
+// Tuning: -Dbench.rounds=10 -Dbench.ops=1000 -Dbench.events=50000
+public class OutboxOverheadBenchmark {
+
+    private static final int ROUNDS = Integer.getInteger("bench.rounds", 10);
+    private static final int OPS = Integer.getInteger("bench.ops", 1000);
+    private static final int EVENTS = Integer.getInteger("bench.events", 50_000);
+    private static final int[] BATCH_SIZES = {100, 500, 1000};
+
+    public static void main(String[] args) {
+        String db = "bench_outbox_" + UUID.randomUUID().toString().replace("-", "");
+        try (ConfigurableApplicationContext ctx = new SpringApplicationBuilder(TaskerApplication.class)
+                .run(
+                        "--spring.main.web-application-type=none",
+                        "--spring.datasource.url=jdbc:h2:mem:" + db + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                        "--tasker.outbox.relay.enabled=false",
+                        "--tasker.archive.enabled=false",
+                        "--logging.level.root=warn")) {
+            writeLatency(ctx);
+            drainRate(ctx);
+        }
+    }
+
+    private static void writeLatency(ConfigurableApplicationContext ctx) {
+        TaskRepository tasks = ctx.getBean(TaskRepository.class);
+        ArchivedTaskRepository archive = ctx.getBean(ArchivedTaskRepository.class);
+        OutboxEventRepository events = ctx.getBean(OutboxEventRepository.class);
+        Clock clock = ctx.getBean(Clock.class);
+        TransactionTemplate tx = new TransactionTemplate(ctx.getBean(PlatformTransactionManager.class));
+
+        // Both variants run through the same TransactionTemplate, so the only difference is the outbox insert.
+        TaskServiceImpl withOutbox = new TaskServiceImpl(tasks, archive, ctx.getBean(OutboxWriter.class), clock);
+        TaskServiceImpl withoutOutbox = new TaskServiceImpl(tasks, archive,
+                new NoOpOutboxWriter(events, ctx.getBean(ObjectMapper.class), clock), clock);
+
+        Variant on = new Variant("outbox", withOutbox);
+        Variant off = new Variant("no outbox", withoutOutbox);
+        // Round 0 warms up the JIT and the connection pool for both variants and is not recorded.
+        for (int round = 0; round <= ROUNDS; round++) {
+            boolean record = round > 0;
+            // Alternate the order so neither variant always runs on a freshly emptied outbox table.
+            for (Variant v : round % 2 == 0 ? List.of(on, off) : List.of(off, on)) {
+                v.round(tx, record);
+            }
+            tx.executeWithoutResult(status -> events.deleteAllInBatch());
+        }
+
+        System.out.printf("%-10s %-7s %8s %9s %9s %9s %9s%n", "variant", "op", "count", "mean us", "p50 us", "p99 us", "p99.9 us");
+        for (Variant v : List.of(off, on)) {
+            print(v.name, "create", v.create);
+            print(v.name, "update", v.update);
+        }
+        System.out.println();
+    }
+
+    private static void drainRate(ConfigurableApplicationContext ctx) {
+        OutboxEventRepository events = ctx.getBean(OutboxEventRepository.class);
+        OutboxWriter writer = ctx.getBean(OutboxWriter.class);
+        PlatformTransactionManager txManager = ctx.getBean(PlatformTransactionManager.class);
+        TransactionTemplate tx = new TransactionTemplate(txManager);
+
+        TaskResponse payload = new TaskResponse(UUID.randomUUID(), "Relay bench", "Payload of a typical size",
+                false, LocalDateTime.now(), null, null);
+
+        System.out.printf("%-10s %8s %9s %12s%n", "batch", "events", "ms", "events/s");
+        for (int batchSize : BATCH_SIZES) {
+            for (int i = 0; i < EVENTS; i += 1000) {
+                tx.executeWithoutResult(status -> {
+                    for (int j = 0; j < 1000; j++) {
+                        writer.taskUpdated(payload);
+                    }
+                });
+            }
+
+            LongAdder published = new LongAdder();
+            OutboxRelay relay = new OutboxRelay(events, batch -> published.add(batch.size()), txManager, batchSize);
+            long started = System.nanoTime();
+            relay.drain();
+            long nanos = System.nanoTime() - started;
+
+            System.out.printf("%-10d %8d %9d %12d%n", batchSize, published.sum(), nanos / 1_000_000,
+                    published.sum() * 1_000_000_000L / nanos);
+        }
+    }
+
+    private static void print(String variant, String op, Histogram h) {
+        System.out.printf("%-10s %-7s %8d %9.1f %9d %9d %9d%n", variant, op, h.getTotalCount(), h.getMean(),
+                h.getValueAtPercentile(50), h.getValueAtPercentile(99), h.getValueAtPercentile(99.9));
+    }
+
+    private static final class Variant {
+
+        final String name;
+        final TaskServiceImpl service;
+        final Histogram create = new Histogram(60_000_000L, 3);
+        final Histogram update = new Histogram(60_000_000L, 3);
+
+        Variant(String name, TaskServiceImpl service) {
+            this.name = name;
+            this.service = service;
+        }
+
+        void round(TransactionTemplate tx, boolean record) {
+            List<UUID> ids = new ArrayList<>(OPS);
+            for (int i = 0; i < OPS; i++) {
+                CreateTaskRequest req = new CreateTaskRequest("Task " + i, "Description " + i, null, null);
+                long started = System.nanoTime();
+                TaskResponse created = tx.execute(status -> service.create(req));
+                long micros = (System.nanoTime() - started) / 1_000;
+                if (record) {
+                    create.recordValue(micros);
+                }
+                ids.add(created.id());
+            }
+            for (UUID id : ids) {
+                UpdateTaskRequest req = new UpdateTaskRequest("Renamed", null, true, null);
+                long started = System.nanoTime();
+                tx.execute(status -> service.update(id, req));
+                long micros = (System.nanoTime() - started) / 1_000;
+                if (record) {
+                    update.recordValue(micros);
+                }
+            }
+        }
+    }
+
+    private static final class NoOpOutboxWriter extends OutboxWriter {
+
+        NoOpOutboxWriter(OutboxEventRepository repo, ObjectMapper objectMapper, Clock clock) {
+            super(repo, objectMapper, clock);
+        }
+
+        @Override
+        public void taskCreated(TaskResponse task) {
+        }
+
+        @Override
+        public void taskUpdated(TaskResponse task) {
+        }
+
+        @Override
+        public void taskDeleted(UUID id) {
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.bench;
+
+import com.example.TaskerApplication;
+import com.example.perf.LoadGenerator;
+import com.example.perf.LoadReport;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+// Side-by-side load run of the servlet/JPA stack and the "reactive" WebFlux/R2DBC stack, read-heavy and mixed.
+// Run with: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.example.bench.StackLoadBenchmark
+//   (or plain "java -cp" on the test classpath)
+// Tuning: -Dbench.concurrency=256 -Dbench.rate=300 -Dbench.seconds=20 -Dbench.tasks=200
+public class StackLoadBenchmark {
+
+    private static final int CONCURRENCY = Integer.getInteger("bench.concurrency", 256);
+    private static final double RATE = Double.parseDouble(System.getProperty("bench.rate", "300"));
+    private static final int SECONDS = Integer.getInteger("bench.seconds", 20);
+    private static final int TASKS = Integer.getInteger("bench.tasks", 200);
+
+    public static void main(String[] args) throws Exception {
+        for (String stack : List.of("servlet", "reactive")) {
+            run(stack);
+        }
+    }
+
+    private static void run(String stack) throws Exception {
+        boolean reactive = stack.equals("reactive");
+        String db = "bench_" + stack + "_" + UUID.randomUUID().toString().replace("-", "");
+        try (ConfigurableApplicationContext ctx = new SpringApplicationBuilder(TaskerApplication.class)
+                .profiles(reactive ? new String[]{"reactive"} : new String[0])
+                // Command-line args, not builder properties: those are defaults and application.yml would win.
+                .run(
+                        "--server.port=0",
+                        "--spring.main.web-application-type=" + (reactive ? "reactive" : "servlet"),
+                        "--spring.datasource.url=jdbc:h2:mem:" + db + ";DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                        "--spring.r2dbc.url=r2dbc:h2:mem:///" + db + "?options=DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                        "--logging.level.root=warn",
+                        "--logging.level.tasker.outbox=warn")) {
+            int port = ((WebServerApplicationContext) ctx).getWebServer().getPort();
+            LoadGenerator load = new LoadGenerator("http://localhost:" + port);
+
+            List<String> ids = load.seed(TASKS, 16);
+            // READ_HEAVY never writes; MIXED also covers the create/update/delete path and its outbox inserts.
+            run(stack + " read-heavy", load, ids, LoadGenerator.Mix.READ_HEAVY);
+            run(stack + " mixed", load, ids, LoadGenerator.Mix.MIXED);
+        }
+    }
+
+    private static void run(String name, LoadGenerator load, List<String> ids, LoadGenerator.Mix mix)
+            throws InterruptedException {
+        load.run(ids, mix, CONCURRENCY, RATE, Duration.ofSeconds(5));
+        LoadReport report = load.run(ids, mix, CONCURRENCY, RATE, Duration.ofSeconds(SECONDS));
+        System.out.println(name);
+        System.out.println(report.format());
+    }
+}
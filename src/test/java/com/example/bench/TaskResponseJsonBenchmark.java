@@ -0,0 +1,81 @@
+package com.example.bench;
+
+import com.example.dto.TaskResponse;
+import com.example.web.TaskResponseSerializer;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Compares the reflective record serializer with TaskResponseSerializer for a GET /api/tasks sized list.
+// Run from the IDE or with: mvn test-compile exec:java -Dexec.classpathScope=test
+//   -Dexec.mainClass=com.example.bench.TaskResponseJsonBenchmark
+// and compare gc.alloc.rate.norm (bytes per op) between the two methods.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskResponseJsonBenchmark {
+
+    @Param({"100"})
+    private int size;
+
+    private List<TaskResponse> tasks;
+    private ObjectWriter reflective;
+    private ObjectWriter specialized;
+
+    @Setup
+    public void setUp() {
+        tasks = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.parse("2025-12-20T10:15:30.123456");
+        for (int i = 0; i < size; i++) {
+            tasks.add(new TaskResponse(UUID.randomUUID(), "Task " + i, "Description " + i, i % 3 == 0,
+                    now.plusMinutes(i), i % 2 == 0 ? null : now.plusDays(i), null));
+        }
+
+        reflective = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+        specialized = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(new SimpleModule().addSerializer(TaskResponse.class, new TaskResponseSerializer()))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+    }
+
+    @Benchmark
+    public void reflective() throws IOException {
+        reflective.writeValue(OutputStream.nullOutputStream(), tasks);
+    }
+
+    @Benchmark
+    public void specialized() throws IOException {
+        specialized.writeValue(OutputStream.nullOutputStream(), tasks);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskResponseJsonBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
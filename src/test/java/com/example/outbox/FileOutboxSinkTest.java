@@ -0,0 +1,51 @@
+package com.example.outbox;
+
+import com.example.domain.OutboxEvent;
+import com.example.domain.OutboxEventType;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileOutboxSinkTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void publish_appendsOneJsonLinePerEvent() throws Exception {
+        Path file = dir.resolve("outbox.jsonl");
+        FileOutboxSink sink = new FileOutboxSink(file, JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build());
+
+        sink.publish(List.of(event(1), event(2)));
+        sink.publish(List.of(event(3)));
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(3, lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            assertTrue(lines.get(i).startsWith("{\"eventId\":" + (i + 1) + ","), lines.get(i));
+        }
+    }
+
+    private static OutboxEvent event(long id) {
+        OutboxEvent e = new OutboxEvent();
+        e.setId(id);
+        e.setTaskId(UUID.randomUUID());
+        e.setType(OutboxEventType.TASK_DELETED);
+        e.setPayload("{\"id\":\"" + e.getTaskId() + "\"}");
+        e.setOccurredAt(LocalDateTime.parse("2025-12-20T10:00:00"));
+        return e;
+    }
+}
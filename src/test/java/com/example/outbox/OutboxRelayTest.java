@@ -0,0 +1,88 @@
+package com.example.outbox;
+
+import com.example.domain.OutboxEvent;
+import com.example.domain.OutboxEventRepository;
+import com.example.domain.OutboxEventType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private OutboxEventRepository repo;
+    private OutboxSink sink;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        repo = mock(OutboxEventRepository.class);
+        sink = mock(OutboxSink.class);
+        relay = new OutboxRelay(repo, sink, mock(PlatformTransactionManager.class), 2);
+    }
+
+    @Test
+    void drain_publishesBatchesInOrderAndDeletesThem() {
+        List<OutboxEvent> first = List.of(event(1), event(2));
+        List<OutboxEvent> second = List.of(event(3));
+        when(repo.findBatch(any(Pageable.class))).thenReturn(first, second);
+
+        relay.drain();
+
+        var inOrder = inOrder(sink, repo);
+        inOrder.verify(sink).publish(first);
+        inOrder.verify(repo).deleteAllInBatch(first);
+        inOrder.verify(sink).publish(second);
+        inOrder.verify(repo).deleteAllInBatch(second);
+        verify(repo, times(2)).findBatch(any(Pageable.class));
+    }
+
+    @Test
+    void drain_keepsEventsWhenSinkFails() {
+        List<OutboxEvent> batch = List.of(event(1));
+        when(repo.findBatch(any(Pageable.class))).thenReturn(batch);
+        doThrow(new IllegalStateException("sink down")).when(sink).publish(batch);
+
+        relay.drain();
+
+        verify(repo, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    void toJsonLine_embedsPayloadAsJson() {
+        OutboxEvent e = event(7);
+
+        String line = OutboxSink.toJsonLine(objectMapper, e);
+
+        assertEquals("{\"eventId\":7,\"taskId\":\"" + e.getTaskId()
+                + "\",\"type\":\"TASK_UPDATED\",\"occurredAt\":\"2025-12-20T10:00:00\",\"payload\":{\"id\":\""
+                + e.getTaskId() + "\"}}", line);
+    }
+
+    private static OutboxEvent event(long id) {
+        OutboxEvent e = new OutboxEvent();
+        e.setId(id);
+        e.setTaskId(UUID.randomUUID());
+        e.setType(OutboxEventType.TASK_UPDATED);
+        e.setPayload("{\"id\":\"" + e.getTaskId() + "\"}");
+        e.setOccurredAt(LocalDateTime.parse("2025-12-20T10:00:00"));
+        return e;
+    }
+}
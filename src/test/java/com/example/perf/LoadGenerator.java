@@ -0,0 +1,197 @@
+package com.example.perf;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// In-JVM HTTP load generator for /api/tasks: one virtual thread per simulated client, latencies in HdrHistogram.
+// Updates and deletes only touch tasks the same client created, so a healthy server never answers them with 404.
+// Open loop: each client has a fixed schedule and latency is measured from the scheduled start, so a stalled
+// server is charged for the requests it delayed instead of silently receiving fewer (coordinated omission).
+public class LoadGenerator {
+
+    public enum Op { CREATE, GET, LIST, UPDATE, DELETE }
+
+    public record Mix(int create, int get, int list, int update, int delete) {
+
+        // As many creates as deletes, so the table (and the cost of LIST) stays near the seeded size.
+        public static final Mix MIXED = new Mix(15, 50, 5, 15, 15);
+        public static final Mix READ_HEAVY = new Mix(0, 90, 10, 0, 0);
+
+        Op pick(ThreadLocalRandom rnd) {
+            int r = rnd.nextInt(create + get + list + update + delete);
+            if ((r -= create) < 0) return Op.CREATE;
+            if ((r -= get) < 0) return Op.GET;
+            if ((r -= list) < 0) return Op.LIST;
+            if (r - update < 0) return Op.UPDATE;
+            return Op.DELETE;
+        }
+    }
+
+    private static final Pattern ID = Pattern.compile("\"id\":\"([0-9a-f-]{36})\"");
+    // Bounds the table at seed + concurrency * MAX_OWN rows even where a client's creates outrun its deletes.
+    private static final int MAX_OWN = 16;
+    private static final long HIGHEST_MICROS = Duration.ofMinutes(1).toNanos() / 1_000;
+
+    private final HttpClient http;
+    private final String base;
+
+    public LoadGenerator(String baseUrl) {
+        this.http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        this.base = baseUrl + "/api/tasks";
+    }
+
+    public List<String> seed(int count, int concurrency) throws InterruptedException {
+        List<String> ids = Collections.synchronizedList(new ArrayList<>(count));
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < concurrency; c++) {
+                int client = c;
+                pool.submit(() -> {
+                    for (int i = client; i < count; i += concurrency) {
+                        String id = create("Seed " + i);
+                        if (id != null) {
+                            ids.add(id);
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+        return List.copyOf(ids);
+    }
+
+    // ratePerSecond is the target for all clients together; each client sends every concurrency/rate seconds.
+    public LoadReport run(List<String> seedIds, Mix mix, int concurrency, double ratePerSecond, Duration duration)
+            throws InterruptedException {
+        Map<Op, Recorder> latencies = new EnumMap<>(Op.class);
+        Map<Op, LongAdder> errors = new EnumMap<>(Op.class);
+        for (Op op : Op.values()) {
+            latencies.put(op, new Recorder(HIGHEST_MICROS, 3));
+            errors.put(op, new LongAdder());
+        }
+
+        long interval = (long) (concurrency * 1e9 / ratePerSecond);
+        long started = System.nanoTime();
+        long deadline = started + duration.toNanos();
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < concurrency; c++) {
+                // Spread the clients' schedules evenly over one interval instead of firing them in lockstep.
+                long firstStart = started + interval * c / concurrency;
+                pool.submit(() -> {
+                    client(seedIds, mix, firstStart, interval, deadline, latencies, errors);
+                    return null;
+                });
+            }
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        Map<Op, Histogram> histograms = new EnumMap<>(Op.class);
+        Map<Op, Long> errorCounts = new EnumMap<>(Op.class);
+        for (Op op : Op.values()) {
+            histograms.put(op, latencies.get(op).getIntervalHistogram());
+            errorCounts.put(op, errors.get(op).sum());
+        }
+        return LoadReport.of(seconds, histograms, errorCounts);
+    }
+
+    private void client(List<String> seedIds, Mix mix, long firstStart, long interval, long deadline,
+                        Map<Op, Recorder> latencies, Map<Op, LongAdder> errors) {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        List<String> own = new ArrayList<>();
+        int n = 0;
+        for (long start = firstStart; start < deadline; start += interval) {
+            long wait;
+            while ((wait = start - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Op op = mix.pick(rnd);
+            if (op == Op.CREATE && own.size() >= MAX_OWN) {
+                op = Op.DELETE;
+            }
+            if ((op == Op.UPDATE || op == Op.DELETE) && own.isEmpty()) {
+                op = Op.CREATE;
+            }
+            if (op == Op.GET && seedIds.isEmpty() && own.isEmpty()) {
+                op = Op.CREATE;
+            }
+
+            boolean ok = switch (op) {
+                case CREATE -> {
+                    String id = create("Load " + n++);
+                    if (id != null) {
+                        own.add(id);
+                    }
+                    yield id != null;
+                }
+                case GET -> {
+                    List<String> pool = seedIds.isEmpty() || (!own.isEmpty() && rnd.nextBoolean()) ? own : seedIds;
+                    yield send(HttpRequest.newBuilder(uri(pool.get(rnd.nextInt(pool.size())))).GET(), 200);
+                }
+                case LIST -> send(HttpRequest.newBuilder(URI.create(base)).GET(), 200);
+                case UPDATE -> send(HttpRequest.newBuilder(uri(own.get(rnd.nextInt(own.size()))))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(
+                                "{\"title\":\"Updated " + n++ + "\",\"completed\":" + rnd.nextBoolean() + "}")), 200);
+                case DELETE -> send(HttpRequest.newBuilder(uri(own.remove(own.size() - 1))).DELETE(), 204);
+            };
+            latencies.get(op).recordValue(Math.min(HIGHEST_MICROS, (System.nanoTime() - start) / 1_000));
+            if (!ok) {
+                errors.get(op).increment();
+            }
+        }
+    }
+
+    private String create(String title) {
+        try {
+            HttpResponse<String> res = http.send(HttpRequest.newBuilder(URI.create(base))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"" + title + "\",\"description\":\"perf\"}"))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (res.statusCode() != 201) {
+                return null;
+            }
+            Matcher m = ID.matcher(res.body());
+            return m.find() ? m.group(1) : null;
+        } catch (IOException ex) {
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private boolean send(HttpRequest.Builder req, int expectedStatus) {
+        try {
+            return http.send(req.build(), HttpResponse.BodyHandlers.discarding()).statusCode() == expectedStatus;
+        } catch (IOException ex) {
+            return false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private URI uri(String id) {
+        return URI.create(base + "/" + id);
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.perf;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.ToDoubleFunction;
+
+// Throughput and latency percentiles per operation, persisted as a flat properties file so a baseline
+// can be committed and diffed.
+public record LoadReport(double seconds, Map<String, OpStats> ops) {
+
+    public static final String TOTAL = "total";
+
+    public record OpStats(long count, long errors, double throughput,
+                          double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+
+        static OpStats of(Histogram h, long errors, double seconds) {
+            return new OpStats(
+                    h.getTotalCount(),
+                    errors,
+                    h.getTotalCount() / seconds,
+                    h.getValueAtPercentile(50) / 1000.0,
+                    h.getValueAtPercentile(90) / 1000.0,
+                    h.getValueAtPercentile(99) / 1000.0,
+                    h.getValueAtPercentile(99.9) / 1000.0,
+                    h.getMaxValue() / 1000.0);
+        }
+    }
+
+    static LoadReport of(double seconds, Map<LoadGenerator.Op, Histogram> histograms, Map<LoadGenerator.Op, Long> errors) {
+        Map<String, OpStats> ops = new LinkedHashMap<>();
+        Histogram total = null;
+        long totalErrors = 0;
+        for (Map.Entry<LoadGenerator.Op, Histogram> e : histograms.entrySet()) {
+            Histogram h = e.getValue();
+            long err = errors.get(e.getKey());
+            if (h.getTotalCount() > 0) {
+                ops.put(e.getKey().name().toLowerCase(Locale.ROOT), OpStats.of(h, err, seconds));
+            }
+            if (total == null) {
+                total = h.copy();
+            } else {
+                total.add(h);
+            }
+            totalErrors += err;
+        }
+        ops.put(TOTAL, OpStats.of(total, totalErrors, seconds));
+        return new LoadReport(seconds, ops);
+    }
+
+    // Per-metric median over repeated runs of the same workload; an op missing from any run is dropped.
+    public static LoadReport median(List<LoadReport> runs) {
+        Map<String, OpStats> ops = new LinkedHashMap<>();
+        for (String op : runs.get(0).ops().keySet()) {
+            if (runs.stream().allMatch(r -> r.ops().containsKey(op))) {
+                List<OpStats> s = runs.stream().map(r -> r.ops().get(op)).toList();
+                ops.put(op, new OpStats(
+                        Math.round(median(s, OpStats::count)),
+                        Math.round(median(s, OpStats::errors)),
+                        median(s, OpStats::throughput),
+                        median(s, OpStats::p50Ms),
+                        median(s, OpStats::p90Ms),
+                        median(s, OpStats::p99Ms),
+                        median(s, OpStats::p999Ms),
+                        median(s, OpStats::maxMs)));
+            }
+        }
+        return new LoadReport(median(runs, LoadReport::seconds), ops);
+    }
+
+    private static <T> double median(List<T> values, ToDoubleFunction<T> metric) {
+        double[] v = values.stream().mapToDouble(metric).sorted().toArray();
+        int mid = v.length / 2;
+        return v.length % 2 == 1 ? v[mid] : (v[mid - 1] + v[mid]) / 2;
+    }
+
+    public OpStats total() {
+        return ops.get(TOTAL);
+    }
+
+    public double errorRate() {
+        OpStats t = total();
+        return t.count() == 0 ? 0 : (double) t.errors() / t.count();
+    }
+
+    // Gate: throughput lower, or p50 higher, than the baseline by more than thresholdPercent. A p50 rise must also
+    // exceed minDeltaMs, so sub-millisecond jitter on a fast operation does not fail the build.
+    public List<String> regressionsAgainst(Properties baseline, double thresholdPercent, double minDeltaMs) {
+        double t = thresholdPercent / 100.0;
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, OpStats> e : ops.entrySet()) {
+            String op = e.getKey();
+            OpStats cur = e.getValue();
+
+            String baseThroughput = baseline.getProperty(op + ".throughput");
+            if (baseThroughput != null && cur.throughput() < Double.parseDouble(baseThroughput) * (1 - t)) {
+                regressions.add(String.format(Locale.ROOT, "%s throughput %.1f req/s < baseline %s req/s",
+                        op, cur.throughput(), baseThroughput));
+            }
+
+            String baseP50 = baseline.getProperty(op + ".p50_ms");
+            if (baseP50 != null && latencyRegressed(cur.p50Ms(), Double.parseDouble(baseP50), t, minDeltaMs)) {
+                regressions.add(String.format(Locale.ROOT, "%s p50 %.3f ms > baseline %s ms",
+                        op, cur.p50Ms(), baseP50));
+            }
+        }
+        return regressions;
+    }
+
+    // Report only: p99 of a run is too noisy to gate on, but a large move is still worth a look.
+    public List<String> tailChangesAgainst(Properties baseline, double thresholdPercent, double minDeltaMs) {
+        double t = thresholdPercent / 100.0;
+        List<String> changes = new ArrayList<>();
+        ops.forEach((op, cur) -> {
+            String baseP99 = baseline.getProperty(op + ".p99_ms");
+            if (baseP99 != null && latencyRegressed(cur.p99Ms(), Double.parseDouble(baseP99), t, minDeltaMs)) {
+                changes.add(String.format(Locale.ROOT, "%s p99 %.3f ms > baseline %s ms", op, cur.p99Ms(), baseP99));
+            }
+        });
+        return changes;
+    }
+
+    private static boolean latencyRegressed(double current, double base, double t, double minDeltaMs) {
+        return current > base * (1 + t) && current - base > minDeltaMs;
+    }
+
+    // A baseline is only comparable to a run with the same settings (stored under their perf.* names).
+    public static List<String> settingsMismatches(Properties baseline, Map<String, String> settings) {
+        List<String> mismatches = new ArrayList<>();
+        settings.forEach((key, value) -> {
+            String recorded = baseline.getProperty(key);
+            if (!value.equals(recorded)) {
+                mismatches.add(key + "=" + value + " but baseline has " + (recorded == null ? "none" : recorded));
+            }
+        });
+        return mismatches;
+    }
+
+    public Properties toProperties() {
+        Properties p = new Properties();
+        p.setProperty("seconds", fmt(seconds));
+        ops.forEach((op, s) -> {
+            p.setProperty(op + ".count", Long.toString(s.count()));
+            p.setProperty(op + ".errors", Long.toString(s.errors()));
+            p.setProperty(op + ".throughput", fmt(s.throughput()));
+            p.setProperty(op + ".p50_ms", fmt(s.p50Ms()));
+            p.setProperty(op + ".p90_ms", fmt(s.p90Ms()));
+            p.setProperty(op + ".p99_ms", fmt(s.p99Ms()));
+            p.setProperty(op + ".p999_ms", fmt(s.p999Ms()));
+            p.setProperty(op + ".max_ms", fmt(s.maxMs()));
+        });
+        return p;
+    }
+
+    public String format() {
+        StringBuilder sb = new StringBuilder(String.format(Locale.ROOT,
+                "%-8s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+                "op", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        ops.forEach((op, s) -> sb.append(String.format(Locale.ROOT,
+                "%-8s %9d %7d %10.1f %9.3f %9.3f %9.3f %9.3f %9.3f%n",
+                op, s.count(), s.errors(), s.throughput(), s.p50Ms(), s.p90Ms(), s.p99Ms(), s.p999Ms(), s.maxMs())));
+        return sb.toString();
+    }
+
+    private static String fmt(double v) {
+        return String.format(Locale.ROOT, "%.3f", v);
+    }
+}
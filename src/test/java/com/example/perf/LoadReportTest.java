@@ -0,0 +1,86 @@
+package com.example.perf;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadReportTest {
+
+    @Test
+    void regressionsAgainst_flagsThroughputDropAndP50RiseBeyondThreshold() {
+        LoadReport report = new LoadReport(10, Map.of(
+                "get", new LoadReport.OpStats(700, 0, 70, 12.5, 20, 40, 50, 60),
+                LoadReport.TOTAL, new LoadReport.OpStats(1000, 0, 95, 3, 4, 5, 6, 7)));
+
+        Properties baseline = new Properties();
+        baseline.setProperty("get.throughput", "100");
+        baseline.setProperty("get.p50_ms", "10");
+        baseline.setProperty("total.throughput", "100");
+        baseline.setProperty("total.p50_ms", "3");
+
+        assertEquals(2, report.regressionsAgainst(baseline, 20, 1).size());
+        assertTrue(report.regressionsAgainst(baseline, 50, 1).isEmpty());
+    }
+
+    @Test
+    void regressionsAgainst_ignoresP50RiseBelowMinDeltaAndP99() {
+        LoadReport report = new LoadReport(10, Map.of(
+                LoadReport.TOTAL, new LoadReport.OpStats(1000, 0, 100, 1.8, 4, 30, 40, 50)));
+
+        Properties baseline = new Properties();
+        baseline.setProperty("total.throughput", "100");
+        baseline.setProperty("total.p50_ms", "1");
+        baseline.setProperty("total.p99_ms", "10");
+
+        assertTrue(report.regressionsAgainst(baseline, 20, 1).isEmpty());
+        assertEquals(1, report.regressionsAgainst(baseline, 20, 0.5).size());
+        assertEquals(1, report.tailChangesAgainst(baseline, 20, 1).size());
+    }
+
+    @Test
+    void median_takesEachMetricSeparatelyAndDropsOpsMissingFromARun() {
+        LoadReport a = new LoadReport(10, Map.of(
+                "get", new LoadReport.OpStats(100, 0, 10, 1, 2, 9, 10, 11),
+                "list", new LoadReport.OpStats(10, 0, 1, 5, 6, 7, 8, 9)));
+        LoadReport b = new LoadReport(10, Map.of(
+                "get", new LoadReport.OpStats(120, 1, 12, 3, 4, 90, 100, 110)));
+        LoadReport c = new LoadReport(10, Map.of(
+                "get", new LoadReport.OpStats(110, 0, 11, 2, 3, 10, 11, 12)));
+
+        LoadReport median = LoadReport.median(List.of(a, b, c));
+
+        assertEquals(Set.of("get"), median.ops().keySet());
+        assertEquals(new LoadReport.OpStats(110, 0, 11, 2, 3, 10, 11, 12), median.ops().get("get"));
+    }
+
+    @Test
+    void toProperties_roundTripsIntoBaselineComparison() {
+        LoadReport report = new LoadReport(10, Map.of(
+                LoadReport.TOTAL, new LoadReport.OpStats(1000, 1, 100, 1, 2, 3, 4, 5)));
+
+        Properties props = report.toProperties();
+
+        assertEquals("100.000", props.getProperty("total.throughput"));
+        assertEquals("3.000", props.getProperty("total.p99_ms"));
+        assertTrue(report.regressionsAgainst(props, 0, 0).isEmpty());
+        assertEquals(0.001, report.errorRate(), 1e-9);
+    }
+
+    @Test
+    void settingsMismatches_reportsChangedAndMissingSettings() {
+        Properties baseline = new Properties();
+        baseline.setProperty("perf.seed", "1000");
+        baseline.setProperty("perf.concurrency", "64");
+
+        Map<String, String> same = Map.of("perf.seed", "1000", "perf.concurrency", "64");
+        Map<String, String> changed = Map.of("perf.seed", "1000", "perf.concurrency", "128", "perf.duration", "30");
+
+        assertTrue(LoadReport.settingsMismatches(baseline, same).isEmpty());
+        assertEquals(2, LoadReport.settingsMismatches(baseline, changed).size());
+    }
+}
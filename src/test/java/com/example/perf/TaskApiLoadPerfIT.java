@@ -0,0 +1,117 @@
+package com.example.perf;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Performance regression gate, run by "mvn -Pperf verify" (see the perf profile in pom.xml for the knobs).
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "tasker.archive.enabled=false",
+                "logging.level.tasker.outbox=warn"
+        }
+)
+class TaskApiLoadPerfIT {
+
+    private static final int SEED = Integer.getInteger("perf.seed", 1000);
+    private static final int CONCURRENCY = Integer.getInteger("perf.concurrency", 64);
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("perf.warmup", 10));
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("perf.duration", 20));
+    private static final int REPETITIONS = Integer.getInteger("perf.repetitions", 5);
+    private static final double RATE = Double.parseDouble(System.getProperty("perf.rate", "100"));
+    private static final double THRESHOLD = Double.parseDouble(System.getProperty("perf.threshold", "20"));
+    private static final double MIN_DELTA_MS = Double.parseDouble(System.getProperty("perf.minDeltaMs", "1"));
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("perf.maxErrorRate", "0.001"));
+    private static final Path BASELINE = Path.of(System.getProperty("perf.baseline", "perf/baseline.properties"));
+    private static final Path REPORT = Path.of(System.getProperty("perf.report", "target/perf/report.properties"));
+    private static final boolean UPDATE_BASELINE = Boolean.getBoolean("perf.updateBaseline");
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void mixedWorkload_doesNotRegressAgainstBaseline() throws Exception {
+        LoadGenerator load = new LoadGenerator("http://localhost:" + port);
+        List<String> seeded = load.seed(SEED, CONCURRENCY);
+        assertThat(seeded).hasSize(SEED);
+
+        load.run(seeded, LoadGenerator.Mix.MIXED, CONCURRENCY, RATE, WARMUP);
+        // One run is too noisy to compare; the gate looks at the per-metric median of several.
+        List<LoadReport> runs = new ArrayList<>();
+        for (int i = 1; i <= REPETITIONS; i++) {
+            LoadReport run = load.run(seeded, LoadGenerator.Mix.MIXED, CONCURRENCY, RATE, DURATION);
+            System.out.printf("Run %d/%d: total p50 %.3f ms, p99 %.3f ms, %.1f req/s%n", i, REPETITIONS,
+                    run.total().p50Ms(), run.total().p99Ms(), run.total().throughput());
+            runs.add(run);
+        }
+        LoadReport report = LoadReport.median(runs);
+
+        Map<String, String> settings = settings();
+        System.out.printf("Tasker load test (median of %d runs): %s%n%s", REPETITIONS, settings, report.format());
+        Properties results = report.toProperties();
+        settings.forEach(results::setProperty);
+        store(results, REPORT, "Tasker load test report");
+
+        assertThat(runs)
+                .as("error rate of every run")
+                .allSatisfy(run -> assertThat(run.errorRate()).isLessThanOrEqualTo(MAX_ERROR_RATE));
+
+        if (UPDATE_BASELINE) {
+            store(results, BASELINE, "Tasker load test baseline");
+            System.out.println("Baseline updated: " + BASELINE.toAbsolutePath());
+            return;
+        }
+        assertThat(BASELINE)
+                .as("no baseline; record one on this machine with -Dperf.updateBaseline=true")
+                .exists();
+
+        Properties baseline = new Properties();
+        try (Reader r = Files.newBufferedReader(BASELINE)) {
+            baseline.load(r);
+        }
+        assertThat(LoadReport.settingsMismatches(baseline, settings))
+                .as("%s was recorded with different settings; re-record it with -Dperf.updateBaseline=true", BASELINE)
+                .isEmpty();
+        report.tailChangesAgainst(baseline, THRESHOLD, MIN_DELTA_MS)
+                .forEach(change -> System.out.println("Not gated: " + change));
+        assertThat(report.regressionsAgainst(baseline, THRESHOLD, MIN_DELTA_MS))
+                .as("regressions beyond %s%% (and %s ms) of %s", THRESHOLD, MIN_DELTA_MS, BASELINE)
+                .isEmpty();
+    }
+
+    private static Map<String, String> settings() {
+        Map<String, String> settings = new LinkedHashMap<>();
+        settings.put("perf.seed", Integer.toString(SEED));
+        settings.put("perf.concurrency", Integer.toString(CONCURRENCY));
+        settings.put("perf.rate", Double.toString(RATE));
+        settings.put("perf.warmup", Long.toString(WARMUP.toSeconds()));
+        settings.put("perf.duration", Long.toString(DURATION.toSeconds()));
+        settings.put("perf.repetitions", Integer.toString(REPETITIONS));
+        settings.put("perf.mix", LoadGenerator.Mix.MIXED.toString());
+        return settings;
+    }
+
+    private static void store(Properties props, Path file, String comment) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (Writer w = Files.newBufferedWriter(file)) {
+            props.store(w, comment);
+        }
+    }
+}
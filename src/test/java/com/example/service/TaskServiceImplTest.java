@@ -1,11 +1,16 @@
 package com.example.service;
 
+import com.example.domain.ArchivedTask;
+import com.example.domain.ArchivedTaskRepository;
 import com.example.domain.Task;
 import com.example.domain.TaskRepository;
 import com.example.dto.CreateTaskRequest;
 import com.example.dto.TaskResponse;
+import com.example.dto.TaskTreeResponse;
 import com.example.dto.UpdateTaskRequest;
+import com.example.exceptions.BadRequestException;
 import com.example.exceptions.NotFoundException;
+import com.example.outbox.OutboxWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -25,16 +30,20 @@ import static org.mockito.Mockito.*;
 class TaskServiceImplTest {
 
     private TaskRepository repo;
+    private ArchivedTaskRepository archive;
+    private OutboxWriter outbox;
     private Clock clock;
     private TaskServiceImpl service;
 
     @BeforeEach
     void setUp() {
         repo = mock(TaskRepository.class);
+        archive = mock(ArchivedTaskRepository.class);
+        outbox = mock(OutboxWriter.class);
 
         clock = Clock.fixed(Instant.parse("2025-12-24T00:00:00Z"), ZoneId.systemDefault());
 
-        service = new TaskServiceImpl(repo, clock);
+        service = new TaskServiceImpl(repo, archive, outbox, clock);
     }
 
     @Test
@@ -52,7 +61,7 @@ class TaskServiceImplTest {
 
         when(repo.save(any(Task.class))).thenReturn(saved);
 
-        TaskResponse resp = service.create(new CreateTaskRequest("Title", "Desc", dl));
+        TaskResponse resp = service.create(new CreateTaskRequest("Title", "Desc", dl, null));
 
         assertEquals(id, resp.id());
         assertEquals("Title", resp.title());
@@ -69,6 +78,8 @@ class TaskServiceImplTest {
         assertFalse(toSave.isCompleted());
         assertEquals(LocalDateTime.now(clock), toSave.getCreatedAt());
         assertEquals(dl, toSave.getDeadline());
+
+        verify(outbox).taskCreated(resp);
     }
 
     @Test
@@ -114,7 +125,7 @@ class TaskServiceImplTest {
 
         when(repo.findAll()).thenReturn(List.of(t1, t2));
 
-        List<TaskResponse> res = service.list();
+        List<TaskResponse> res = service.list(false);
 
         assertEquals(2, res.size());
         assertEquals("T1", res.get(0).title());
@@ -134,7 +145,7 @@ class TaskServiceImplTest {
         existing.setCreatedAt(LocalDateTime.parse("2025-12-20T10:00:00"));
         existing.setDeadline(null);
 
-        when(repo.findById(id)).thenReturn(Optional.of(existing));
+        when(repo.findByIdForUpdate(id)).thenReturn(Optional.of(existing));
         when(repo.save(any(Task.class))).thenAnswer(inv -> inv.getArgument(0));
 
         LocalDateTime dl = LocalDateTime.parse("2026-01-01T09:30:00");
@@ -144,13 +155,191 @@ class TaskServiceImplTest {
         assertEquals("OldDesc", resp.description());
         assertTrue(resp.completed());
         assertEquals(dl, resp.deadline());
+        assertEquals(LocalDateTime.now(clock), existing.getCompletedAt());
+
+        verify(outbox).taskUpdated(resp);
+    }
+
+    @Test
+    void update_reopeningClearsCompletedAt() {
+        Task existing = task("Done", true, null, Task.ROOT_PATH);
+        existing.setCompletedAt(LocalDateTime.parse("2025-12-01T00:00:00"));
+        when(repo.findByIdForUpdate(existing.getId())).thenReturn(Optional.of(existing));
+        when(repo.save(any(Task.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        service.update(existing.getId(), new UpdateTaskRequest(null, null, Boolean.FALSE, null));
+
+        assertFalse(existing.isCompleted());
+        assertNull(existing.getCompletedAt());
+    }
+
+    @Test
+    void update_archivedTaskIsRejected() {
+        UUID id = UUID.randomUUID();
+        when(repo.findByIdForUpdate(id)).thenReturn(Optional.empty());
+        when(archive.existsById(id)).thenReturn(true);
+
+        assertThrows(BadRequestException.class,
+                () -> service.update(id, new UpdateTaskRequest("New", null, null, null)));
+    }
+
+    @Test
+    void get_fallsBackToArchive() {
+        Task t = task("Old", true, null, Task.ROOT_PATH);
+        when(repo.findById(t.getId())).thenReturn(Optional.empty());
+        when(archive.findById(t.getId())).thenReturn(Optional.of(ArchivedTask.of(t, LocalDateTime.now(clock))));
+
+        TaskResponse resp = service.get(t.getId());
+
+        assertEquals(t.getId(), resp.id());
+        assertEquals("Old", resp.title());
+        assertTrue(resp.completed());
+    }
+
+    @Test
+    void list_includesArchivedOnlyWhenAsked() {
+        Task hot = task("Hot", false, null, Task.ROOT_PATH);
+        Task cold = task("Cold", true, null, Task.ROOT_PATH);
+        when(repo.findAll()).thenReturn(List.of(hot));
+        when(archive.findAll()).thenReturn(List.of(ArchivedTask.of(cold, LocalDateTime.now(clock))));
+
+        assertEquals(1, service.list(false).size());
+        verify(archive, never()).findAll();
+
+        List<TaskResponse> all = service.list(true);
+        assertEquals(List.of("Hot", "Cold"), all.stream().map(TaskResponse::title).toList());
     }
 
     @Test
     void delete_throwsIfNotExists() {
         UUID id = UUID.randomUUID();
-        when(repo.existsById(id)).thenReturn(false);
+        when(repo.findByIdForUpdate(id)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () -> service.delete(id));
+        verifyNoInteractions(outbox);
+    }
+
+    @Test
+    void delete_removesDescendantsByPathAndRecordsEvents() {
+        Task t = task("Root", false, null, Task.ROOT_PATH);
+        Task child = task("Child", false, t.getId(), t.getSubtreePath());
+        UUID childId = child.getId();
+        when(repo.findByIdForUpdate(t.getId())).thenReturn(Optional.of(t));
+        when(repo.findDescendantsForUpdate(t.getSubtreePath())).thenReturn(List.of(child));
+
+        service.delete(t.getId());
+
+        verify(repo).deleteDescendants("/" + t.getId() + "/");
+        verify(repo).delete(t);
+        verify(outbox).taskDeleted(childId);
+        verify(outbox).taskDeleted(t.getId());
+    }
+
+    @Test
+    void create_withParent_setsParentIdAndPath() {
+        Task parent = task("Parent", false, null, Task.ROOT_PATH);
+        when(repo.findByIdForUpdate(parent.getId())).thenReturn(Optional.of(parent));
+        when(repo.save(any(Task.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        TaskResponse resp = service.create(new CreateTaskRequest("Child", null, null, parent.getId()));
+
+        assertEquals(parent.getId(), resp.parentId());
+        ArgumentCaptor<Task> cap = ArgumentCaptor.forClass(Task.class);
+        verify(repo).save(cap.capture());
+        assertEquals("/" + parent.getId() + "/", cap.getValue().getPath());
+    }
+
+    @Test
+    void create_withUnknownParent_throws() {
+        UUID parentId = UUID.randomUUID();
+        when(repo.findByIdForUpdate(parentId)).thenReturn(Optional.empty());
+
+        assertThrows(BadRequestException.class,
+                () -> service.create(new CreateTaskRequest("Child", null, null, parentId)));
+        verify(repo, never()).save(any(Task.class));
+    }
+
+    @Test
+    void create_underTooDeepParent_throws() {
+        StringBuilder path = new StringBuilder(Task.ROOT_PATH);
+        while (path.length() + 37 <= Task.MAX_PATH_LENGTH) {
+            path.append(UUID.randomUUID()).append('/');
+        }
+        Task parent = task("Parent", false, UUID.randomUUID(), path.toString());
+        when(repo.findByIdForUpdate(parent.getId())).thenReturn(Optional.of(parent));
+
+        BadRequestException e = assertThrows(BadRequestException.class,
+                () -> service.create(new CreateTaskRequest("Child", null, null, parent.getId())));
+        assertEquals("subtask nesting is too deep", e.getMessage());
+        verify(repo, never()).save(any(Task.class));
+    }
+
+    @Test
+    void subtree_buildsTreeAndRollsUpCounts() {
+        Task root = task("Root", false, null, Task.ROOT_PATH);
+        Task a = task("A", true, root.getId(), root.getSubtreePath());
+        Task b = task("B", false, root.getId(), root.getSubtreePath());
+        Task a1 = task("A1", true, a.getId(), a.getSubtreePath());
+
+        when(repo.findById(root.getId())).thenReturn(Optional.of(root));
+        when(repo.findDescendants(root.getSubtreePath())).thenReturn(List.of(a, a1, b));
+
+        TaskTreeResponse tree = service.subtree(root.getId());
+
+        assertEquals("Root", tree.task().title());
+        assertEquals(3, tree.totalSubtasks());
+        assertEquals(2, tree.completedSubtasks());
+        assertEquals(2, tree.subtasks().size());
+
+        TaskTreeResponse nodeA = tree.subtasks().get(0);
+        assertEquals("A", nodeA.task().title());
+        assertEquals(1, nodeA.totalSubtasks());
+        assertEquals(1, nodeA.completedSubtasks());
+        assertEquals("A1", nodeA.subtasks().get(0).task().title());
+
+        verify(repo, times(1)).findById(any(UUID.class));
+    }
+
+    @Test
+    void subtree_includesArchivedDescendantsAndArchivedRoots() {
+        Task root = task("Root", false, null, Task.ROOT_PATH);
+        Task a = task("A", true, root.getId(), root.getSubtreePath());
+        Task a1 = task("A1", true, a.getId(), a.getSubtreePath());
+        Task b = task("B", false, root.getId(), root.getSubtreePath());
+        a.setCreatedAt(b.getCreatedAt().minusHours(1));
+        LocalDateTime archivedAt = LocalDateTime.now(clock);
+
+        when(repo.findById(root.getId())).thenReturn(Optional.of(root));
+        when(repo.findDescendants(root.getSubtreePath())).thenReturn(List.of(b));
+        when(archive.findDescendants(root.getSubtreePath()))
+                .thenReturn(List.of(ArchivedTask.of(a, archivedAt), ArchivedTask.of(a1, archivedAt)));
+
+        TaskTreeResponse tree = service.subtree(root.getId());
+
+        assertEquals(3, tree.totalSubtasks());
+        assertEquals(2, tree.completedSubtasks());
+        assertEquals(List.of("A", "B"), tree.subtasks().stream().map(n -> n.task().title()).toList());
+        assertEquals("A1", tree.subtasks().get(0).subtasks().get(0).task().title());
+
+        when(repo.findById(a.getId())).thenReturn(Optional.empty());
+        when(archive.findById(a.getId())).thenReturn(Optional.of(ArchivedTask.of(a, archivedAt)));
+        when(archive.findDescendants(a.getSubtreePath())).thenReturn(List.of(ArchivedTask.of(a1, archivedAt)));
+
+        TaskTreeResponse archivedTree = service.subtree(a.getId());
+
+        assertEquals("A", archivedTree.task().title());
+        assertEquals(1, archivedTree.totalSubtasks());
+    }
+
+    private static Task task(String title, boolean completed, UUID parentId, String path) {
+        Task t = new Task();
+        t.setId(UUID.randomUUID());
+        t.setTitle(title);
+        t.setDescription("");
+        t.setCompleted(completed);
+        t.setCreatedAt(LocalDateTime.parse("2025-12-20T10:00:00"));
+        t.setParentId(parentId);
+        t.setPath(path);
+        return t;
     }
 }
@@ -0,0 +1,166 @@
+package com.example.web;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Own database and no background jobs: this context stays cached next to TaskApiIntegrationTest's, and its
+// archiver must not move tasks that test is asserting on.
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.main.web-application-type=reactive",
+                "spring.datasource.url=jdbc:h2:mem:tasker_reactive;DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                "spring.r2dbc.url=r2dbc:h2:mem:///tasker_reactive?options=DB_CLOSE_DELAY=-1;MODE=PostgreSQL",
+                "tasker.archive.enabled=false",
+                "tasker.outbox.relay.enabled=false"
+        }
+)
+@ActiveProfiles("reactive")
+class ReactiveTaskApiIntegrationTest {
+
+    private static final String BASE = "/api/tasks";
+
+    @Autowired
+    private WebTestClient client;
+
+    @Autowired
+    private ReactiveWebServerApplicationContext context;
+
+    @Test
+    void runsOnNetty() {
+        assertThat(context.getWebServer()).isInstanceOf(NettyWebServer.class);
+    }
+
+    @Test
+    void createTask_returnsBodyWithId_andLocationHeaderPointsToResource() {
+        Map<String, Object> req = new LinkedHashMap<>();
+        req.put("title", "Buy milk");
+        req.put("description", "2 bottles");
+        req.put("deadline", "2025-12-31T10:00:00");
+
+        var res = client.post().uri(BASE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(req)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().exists("Location")
+                .expectBody(String.class)
+                .returnResult();
+
+        String body = res.getResponseBody();
+        String id = JsonPath.read(body, "$.id");
+        assertThat((String) JsonPath.read(body, "$.title")).isEqualTo("Buy milk");
+        assertThat((String) JsonPath.read(body, "$.deadline")).isEqualTo("2025-12-31T10:00:00");
+        assertThat(res.getResponseHeaders().getLocation()).hasToString(BASE + "/" + id);
+    }
+
+    @Test
+    void list_containsCreatedTasksByTitle() {
+        String t1 = "List-" + UUID.randomUUID();
+        String t2 = "List-" + UUID.randomUUID();
+        createTask(t1, null);
+        createTask(t2, null);
+
+        String body = client.get().uri(BASE)
+                .exchange()
+                .expectStatus().is2xxSuccessful()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        List<String> titles = JsonPath.read(body, "$[*].title");
+        assertThat(titles).contains(t1, t2);
+    }
+
+    @Test
+    void updateThenSubtree_rollsUpCompletedSubtasks() {
+        String root = createTask("Project", null);
+        String child = createTask("Child", root);
+        createTask("Other", root);
+
+        client.put().uri(BASE + "/" + child)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("completed", true))
+                .exchange()
+                .expectStatus().is2xxSuccessful()
+                .expectBody().jsonPath("$.completed").isEqualTo(true);
+
+        client.get().uri(BASE + "/" + root + "/subtree")
+                .exchange()
+                .expectStatus().is2xxSuccessful()
+                .expectBody()
+                .jsonPath("$.totalSubtasks").isEqualTo(2)
+                .jsonPath("$.completedSubtasks").isEqualTo(1);
+    }
+
+    @Test
+    void deleteTask_thenGetReturns404() {
+        String id = createTask("To delete", null);
+
+        client.delete().uri(BASE + "/" + id)
+                .exchange()
+                .expectStatus().isNoContent();
+
+        client.get().uri(BASE + "/" + id)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.error").isEqualTo("task not found");
+    }
+
+    @Test
+    void errors_areMappedLikeServletStack() {
+        client.post().uri(BASE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("title", ""))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("validation failed");
+
+        client.post().uri(BASE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{not json")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("malformed json");
+
+        client.get().uri(BASE + "/not-a-uuid")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("invalid parameter");
+    }
+
+    private String createTask(String title, String parentId) {
+        Map<String, Object> req = new LinkedHashMap<>();
+        req.put("title", title);
+        if (parentId != null) {
+            req.put("parentId", parentId);
+        }
+
+        String body = client.post().uri(BASE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(req)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+        String id = JsonPath.read(body, "$.id");
+        assertThat(id).isNotBlank();
+        return id;
+    }
+}
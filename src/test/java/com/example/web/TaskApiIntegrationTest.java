@@ -1,5 +1,10 @@
 package com.example.web;
 
+import com.example.archive.TaskArchiver;
+import com.example.domain.Task;
+import com.example.domain.TaskRepository;
+import com.example.dto.TaskResponse;
+import com.example.service.TaskService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.Test;
@@ -10,6 +15,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,7 +29,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@SpringBootTest
+// The archive test drives TaskArchiver itself; keep the scheduled run out of its way.
+@SpringBootTest(properties = "tasker.archive.interval-ms=3600000")
 @AutoConfigureMockMvc
 class TaskApiIntegrationTest {
 
@@ -34,6 +42,20 @@ class TaskApiIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private TaskArchiver archiver;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    // Same components as TaskResponse but without a custom serializer, so Jackson serializes it reflectively.
+    record PlainTaskResponse(UUID id, String title, String description, boolean completed,
+                             LocalDateTime createdAt, LocalDateTime deadline, UUID parentId) {
+    }
+
     @Test
     void listTasks_doesNotReturn5xx() throws Exception {
         mockMvc.perform(get(BASE))
@@ -159,10 +181,128 @@ class TaskApiIntegrationTest {
                 .andExpect(status().is4xxClientError());
     }
 
+    @Test
+    void subtree_returnsNestedTasksWithRollUpCounts() throws Exception {
+        String root = createTask("Project", "root");
+        String child = createTask("Child", "c", root);
+        createTask("Grandchild", "g", child);
+        String done = createTask("Done", "d", root);
+
+        Map<String, Object> update = new LinkedHashMap<>();
+        update.put("completed", true);
+        mockMvc.perform(put(BASE + "/" + done)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().is2xxSuccessful());
+
+        MvcResult res = mockMvc.perform(get(BASE + "/" + root + "/subtree"))
+                .andExpect(status().is2xxSuccessful())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn();
+
+        String body = res.getResponse().getContentAsString();
+        assertThat((String) JsonPath.read(body, "$.task.id")).isEqualTo(root);
+        assertThat((Integer) JsonPath.read(body, "$.totalSubtasks")).isEqualTo(3);
+        assertThat((Integer) JsonPath.read(body, "$.completedSubtasks")).isEqualTo(1);
+
+        List<String> subtaskTitles = JsonPath.read(body, "$.subtasks[*].task.title");
+        assertThat(subtaskTitles).containsExactlyInAnyOrder("Child", "Done");
+    }
+
+    @Test
+    void deleteParent_removesSubtasks() throws Exception {
+        String root = createTask("Parent to delete", "p");
+        String child = createTask("Child to delete", "c", root);
+
+        mockMvc.perform(delete(BASE + "/" + root))
+                .andExpect(status().is2xxSuccessful());
+
+        mockMvc.perform(get(BASE + "/" + child))
+                .andExpect(status().is4xxClientError());
+    }
+
+    @Test
+    void getTask_bodyMatchesReflectiveSerializationBySpringObjectMapper() throws Exception {
+        String parent = createTask("Serializer parent", "p");
+        Map<String, Object> req = new LinkedHashMap<>();
+        req.put("title", "Quote \" and \\ and Юникод ✓");
+        req.put("description", "line\nbreak");
+        req.put("deadline", "2025-12-31T10:00:00.120");
+        req.put("parentId", parent);
+        String id = JsonPath.read(mockMvc.perform(post(BASE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString(), "$.id");
+
+        assertThat(objectMapper.getSerializerProviderInstance().findValueSerializer(TaskResponse.class))
+                .isInstanceOf(TaskResponseSerializer.class);
+
+        TaskResponse r = taskService.get(UUID.fromString(id));
+        String expected = objectMapper.writeValueAsString(new PlainTaskResponse(r.id(), r.title(), r.description(),
+                r.completed(), r.createdAt(), r.deadline(), r.parentId()));
+
+        assertThat(objectMapper.writeValueAsString(r)).isEqualTo(expected);
+        MvcResult getRes = mockMvc.perform(get(BASE + "/" + id))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(getRes.getResponse().getContentAsString(StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
+
+    @Test
+    void archivedTask_isStillReadableAndListedOnlyWithIncludeArchived() throws Exception {
+        String title = "Archive-" + UUID.randomUUID();
+        String parent = createTask("Archive parent", "stays open");
+        String id = createTask(title, "old", parent);
+
+        Map<String, Object> update = new LinkedHashMap<>();
+        update.put("completed", true);
+        mockMvc.perform(put(BASE + "/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().is2xxSuccessful());
+
+        // Backdate only this task and archive with a cutoff no other test's data can fall under.
+        Task done = taskRepository.findById(UUID.fromString(id)).orElseThrow();
+        done.setCompletedAt(LocalDateTime.parse("2000-01-01T00:00:00"));
+        taskRepository.save(done);
+        assertThat(archiver.archiveCompletedBefore(LocalDateTime.parse("2000-01-02T00:00:00"))).isEqualTo(1);
+
+        MvcResult getRes = mockMvc.perform(get(BASE + "/" + id))
+                .andExpect(status().is2xxSuccessful())
+                .andReturn();
+        assertThat((String) JsonPath.read(getRes.getResponse().getContentAsString(), "$.title")).isEqualTo(title);
+
+        List<String> hotTitles = JsonPath.read(
+                mockMvc.perform(get(BASE)).andReturn().getResponse().getContentAsString(), "$[*].title");
+        assertThat(hotTitles).doesNotContain(title);
+
+        List<String> allTitles = JsonPath.read(
+                mockMvc.perform(get(BASE).param("includeArchived", "true")).andReturn().getResponse().getContentAsString(),
+                "$[*].title");
+        assertThat(allTitles).contains(title);
+
+        mockMvc.perform(get(BASE + "/" + parent + "/subtree"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalSubtasks").value(1))
+                .andExpect(jsonPath("$.completedSubtasks").value(1))
+                .andExpect(jsonPath("$.subtasks[0].task.id").value(id));
+        mockMvc.perform(get(BASE + "/" + id + "/subtree"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.task.title").value(title));
+    }
+
     private String createTask(String title, String description) throws Exception {
+        return createTask(title, description, null);
+    }
+
+    private String createTask(String title, String description, String parentId) throws Exception {
         Map<String, Object> req = new LinkedHashMap<>();
         req.put("title", title);
         req.put("description", description);
+        if (parentId != null) {
+            req.put("parentId", parentId);
+        }
 
         MvcResult res = mockMvc.perform(post(BASE)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -0,0 +1,48 @@
+package com.example.web;
+
+import com.example.dto.TaskResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskResponseSerializerTest {
+
+    private final ObjectMapper reference = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final ObjectMapper specialized = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .addModule(new SimpleModule().addSerializer(TaskResponse.class, new TaskResponseSerializer()))
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    void output_matchesDefaultJackson() throws Exception {
+        List<TaskResponse> samples = List.of(
+                new TaskResponse(UUID.randomUUID(), "Buy milk", "2 bottles", false,
+                        LocalDateTime.parse("2025-12-20T00:00:00"), null, null),
+                new TaskResponse(UUID.fromString("00000000-0000-0001-0000-00000000000a"), "Quote \" and \\ and \n", "Юникод ✓",
+                        true, LocalDateTime.parse("2025-01-02T03:04:05.120"), LocalDateTime.parse("2025-12-31T23:59:59.000000001"),
+                        UUID.randomUUID()),
+                new TaskResponse(UUID.randomUUID(), "T", "", false,
+                        LocalDateTime.parse("0001-02-03T04:05:06.123456"), LocalDateTime.parse("+10000-01-01T00:00:00"),
+                        UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff"))
+        );
+
+        for (TaskResponse r : samples) {
+            assertEquals(reference.writeValueAsString(r), specialized.writeValueAsString(r));
+        }
+        assertEquals(reference.writeValueAsString(samples), specialized.writeValueAsString(samples));
+    }
+}